@@ -1,19 +1,30 @@
 public class AlgoResult {
     String algorithmName;
-    long durationNano;
+    long durationNano; // Waktu komputasi murni solver
+    long replayNano;   // Waktu replay animasi (terpisah dari komputasi)
     int pathLength;
     int visitedCount;
     int totalCost;
+    SearchStats stats; // Counter instrumentasi solver (boleh null untuk hasil lama)
+    double suboptimalityBound; // Solver anytime: cost <= bound * optimal (NaN jika tidak dilaporkan)
+    boolean budgetExhausted;   // Solver anytime dihentikan budget waktu
 
-    public AlgoResult(String name, long time, int len, int visited, int cost) {
+    public AlgoResult(String name, long time, long replayTime, int len, int visited, int cost, SearchStats stats, double bound) {
         this.algorithmName = name;
         this.durationNano = time;
+        this.replayNano = replayTime;
         this.pathLength = len;
         this.visitedCount = visited;
         this.totalCost = cost;
+        this.stats = stats;
+        this.suboptimalityBound = bound;
     }
 
     public double getDurationMs() {
         return durationNano / 1_000_000.0;
     }
+
+    public double getReplayMs() {
+        return replayNano / 1_000_000.0;
+    }
 }
\ No newline at end of file
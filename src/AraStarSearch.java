@@ -0,0 +1,176 @@
+// ARA* (Anytime Repairing A*): A* berbobot dengan key g + eps * h dan eps yang mengecil
+// (3.0 -> 2.5 -> ... -> 1.0). Solusi pertama dengan eps besar cepat didapat, lalu diperbaiki
+// memakai ulang g dari iterasi sebelumnya: hanya sel yang membaik setelah ditutup (INCONS)
+// yang dibuka lagi. Tiap solusi dijamin cost <= bound * optimal, dengan
+// bound = min(eps, g(goal) / min{g + h di OPEN u INCONS}).
+// Heuristik ALT (admissible & konsisten) jika distance field sudah dibangun, selain itu nol
+// (iterasi pertama optimal); search tidak pernah membangun landmark sendiri di luar budget.
+// Budget dihitung sejak search dimulai: jika habis atau dibatalkan, solusi terakhir yang
+// selesai dikembalikan, atau not-found jika belum ada. Budget habis ditandai di hasil
+// (isBudgetExhausted) agar not-found tidak dibaca sebagai "tidak ada path".
+public final class AraStarSearch {
+    public static final long DEFAULT_BUDGET_NANOS = 200_000_000L;
+    private static final int EPS_SCALE = 4;    // eps dalam satuan 1/4 agar key tetap integer
+    private static final int EPS_START = 12;   // 3.0
+    private static final int EPS_STEP = 2;     // 0.5
+    private static final int CLOCK_MASK = 255; // Cek deadline tiap 256 ekspansi
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final MazeGrid maze;
+    private final SearchWorkspace ws;
+    private final int goal;
+    private final Landmarks.Target heuristic; // Null = heuristik nol
+    private final CancellationToken token;
+    private final SearchObserver observer;
+    private final SearchStats stats;
+    private final IndexedMinHeap open;
+    private final int[] closedIn; // Iterasi saat sel ditutup (0 = belum pernah)
+    private final int[] inconsIn; // Iterasi saat sel masuk INCONS
+    private final int[] incons;   // Daftar INCONS (buffer frontier workspace)
+    private int inconsSize;
+    private int eps;
+    private final long startNanos;  // Budget dihitung dari sini (selisih nanoTime, aman overflow)
+    private final long budgetNanos;
+    private boolean budgetExhausted;
+
+    private AraStarSearch(MazeGrid maze, SearchWorkspace ws, int goal, long budgetNanos, CancellationToken token, SearchObserver observer) {
+        this.maze = maze;
+        this.ws = ws;
+        this.goal = goal;
+        this.startNanos = System.nanoTime();
+        this.budgetNanos = budgetNanos;
+        Landmarks landmarks = maze.peekLandmarks();
+        this.heuristic = landmarks != null ? landmarks.toward(goal) : null;
+        this.token = token;
+        this.observer = observer;
+        this.stats = ws.stats();
+        this.open = ws.indexedHeap();
+        this.closedIn = new int[maze.getCellCount()];
+        this.inconsIn = new int[maze.getCellCount()];
+        this.incons = ws.frontierBuffer();
+        this.eps = heuristic != null ? EPS_START : EPS_SCALE; // Bobot tidak berguna tanpa heuristik
+    }
+
+    // Workspace harus sudah di-begin (lewat MazeSolver.solve); token boleh null
+    static SearchResult search(MazeGrid maze, SearchWorkspace ws, int start, int goal, long budgetNanos,
+                               CancellationToken token, SearchObserver observer) {
+        return new AraStarSearch(maze, ws, goal, budgetNanos, token, observer).run(start);
+    }
+
+    private SearchResult run(int start) {
+        ws.setDist(start, 0);
+        int hs = h(start);
+        open.push(start, key(0, hs), hs);
+        stats.pushes++;
+
+        int[] bestPath = null;
+        double bestBound = Double.NaN;
+        for (int iter = 1; ; iter++) {
+            if (!improvePath(iter)) break; // Dibatalkan atau budget habis: pakai solusi terakhir
+            if (ws.getDist(goal) == INF) break; // OPEN habis tanpa mencapai goal
+            bestPath = extractPath();
+            bestBound = bound();
+            if (bestBound <= 1.0 || eps == EPS_SCALE) break;
+            eps = Math.max(EPS_SCALE, eps - EPS_STEP);
+            reopen();
+        }
+
+        int visitedCount = ws.getVisitedCount();
+        if (bestPath == null) {
+            SearchResult result = new SearchResult(false, new int[0], INF, visitedCount);
+            result.budgetExhausted = budgetExhausted;
+            return result;
+        }
+        int cost = 0;
+        for (int cell : bestPath) cost += maze.getCost(cell);
+        SearchResult result = new SearchResult(true, bestPath, cost, visitedCount);
+        result.suboptimalityBound = bestBound;
+        result.budgetExhausted = budgetExhausted;
+        return result;
+    }
+
+    // Ekspansi sampai f(goal) <= key minimum di OPEN; false jika dihentikan di tengah jalan
+    private boolean improvePath(int iter) {
+        while (!open.isEmpty()) {
+            int gGoal = ws.getDist(goal);
+            if (gGoal != INF && key(gGoal, 0) <= open.peekPrimaryKey()) return true;
+            if (token != null && token.isCancelled()) return false;
+            if ((stats.pops & CLOCK_MASK) == 0 && System.nanoTime() - startNanos > budgetNanos) {
+                budgetExhausted = true;
+                return false;
+            }
+
+            stats.frontierSize(open.size());
+            int u = open.poll();
+            int gu = ws.getDist(u);
+            stats.pops++;
+            if (closedIn[u] != 0) stats.staleSkips++; // Ditutup di iterasi sebelumnya: ekspansi ulang
+            closedIn[u] = iter;
+            ws.markVisited(u);
+            if (observer != null) observer.onExpand(u);
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(u, MazeGraphModel.DIR_BITS[d])) continue;
+                int v = maze.neighbor(u, d);
+                int ng = gu + maze.getCost(v);
+                if (ng >= ws.getDist(v)) continue;
+                ws.setDist(v, ng);
+                ws.setParent(v, u);
+                stats.relaxations++;
+                if (closedIn[v] != iter) {
+                    int hv = h(v);
+                    open.push(v, key(ng, hv), hv);
+                    stats.pushes++;
+                } else if (inconsIn[v] != iter) {
+                    inconsIn[v] = iter;
+                    incons[inconsSize++] = v;
+                }
+            }
+        }
+        return true;
+    }
+
+    // OPEN baru = OPEN u INCONS dengan key eps yang baru; CLOSED kosong lagi lewat nomor iterasi
+    private void reopen() {
+        for (int i = 0; i < open.size(); i++) incons[inconsSize++] = open.cellAt(i); // OPEN & INCONS disjoint
+        open.clear();
+        for (int i = 0; i < inconsSize; i++) {
+            int c = incons[i];
+            int hc = h(c);
+            open.push(c, key(ws.getDist(c), hc), hc);
+        }
+        stats.pushes += inconsSize;
+        inconsSize = 0;
+    }
+
+    private double bound() {
+        long minF = Long.MAX_VALUE;
+        for (int i = 0; i < open.size(); i++) {
+            int c = open.cellAt(i);
+            minF = Math.min(minF, (long) ws.getDist(c) + h(c));
+        }
+        for (int i = 0; i < inconsSize; i++) minF = Math.min(minF, (long) ws.getDist(incons[i]) + h(incons[i]));
+        double weight = (double) eps / EPS_SCALE;
+        if (minF == Long.MAX_VALUE) return 1.0; // Tidak ada sel inkonsisten: g(goal) sudah eksak
+        int gGoal = ws.getDist(goal);
+        if (gGoal <= minF) return 1.0;
+        return minF == 0 ? weight : Math.min(weight, (double) gGoal / minF);
+    }
+
+    private int[] extractPath() {
+        int steps = 0;
+        for (int c = goal; c != -1; c = ws.getParent(c)) steps++;
+        int[] path = new int[steps];
+        int i = steps - 1;
+        for (int c = goal; c != -1; c = ws.getParent(c)) path[i--] = c;
+        return path;
+    }
+
+    private int h(int cell) {
+        return heuristic != null ? heuristic.estimate(cell) : 0;
+    }
+
+    // Key primer EPS_SCALE * g + eps * h, dijenuhkan agar tidak overflow di maze raksasa
+    private int key(int g, int h) {
+        return (int) Math.min(Integer.MAX_VALUE - 1, (long) EPS_SCALE * g + (long) eps * h);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+import java.util.Arrays;
+
+// Antrian prioritas Dial (bucket melingkar) untuk cost terrain integer kecil.
+// Semua key di antrian berada di [cursor, cursor + maxEdgeCost], jadi cukup
+// maxEdgeCost + 1 bucket. Tiap bucket adalah linked list intrusif di atas int[]
+// (next/prev per sel), sehingga insert, decrease-key dan pop O(1) amortized
+// tanpa alokasi objek dan tanpa entri basi.
+public class BucketQueue {
+    private final int[] next;
+    private final int[] prev;
+    private int[] head;
+    private int size;
+    private int cursor; // Key (jarak) bucket yang sedang diproses
+
+    public BucketQueue(int capacity, int maxEdgeCost) {
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.head = new int[maxEdgeCost + 1];
+        clear();
+    }
+
+    public int capacity() { return next.length; }
+
+    // Pastikan jumlah bucket cukup untuk cost edge maksimum lalu kosongkan antrian
+    public void reset(int maxEdgeCost) {
+        if (head.length < maxEdgeCost + 1) head = new int[maxEdgeCost + 1];
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(head, -1);
+        size = 0;
+        cursor = 0;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+
+    // Sisip di depan bucket: sel dengan key == cursor (langkah cost 0 / TERRACE)
+    // langsung diproses berikutnya, seperti push-front pada deque 0-1 BFS
+    public void add(int cell, int key) {
+        int b = key % head.length;
+        int h = head[b];
+        next[cell] = h;
+        prev[cell] = -1;
+        if (h != -1) prev[h] = cell;
+        head[b] = cell;
+        size++;
+    }
+
+    // Decrease-key: lepas dari bucket lama lalu sisip ulang
+    public void decreaseKey(int cell, int oldKey, int newKey) {
+        unlink(cell, oldKey % head.length);
+        add(cell, newKey);
+    }
+
+    // Ambil sel dengan key terkecil; return -1 jika kosong
+    public int poll() {
+        if (size == 0) return -1;
+        int b = cursor % head.length;
+        while (head[b] == -1) {
+            cursor++;
+            b = cursor % head.length;
+        }
+        int cell = head[b];
+        unlink(cell, b);
+        return cell;
+    }
+
+    // Key dari sel yang terakhir di-poll
+    public int currentKey() { return cursor; }
+
+    private void unlink(int cell, int b) {
+        int p = prev[cell], n = next[cell];
+        if (p != -1) next[p] = n; else head[b] = n;
+        if (n != -1) prev[n] = p;
+        size--;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+import java.util.concurrent.CancellationException;
+
+// Pembatalan kooperatif: UI memanggil cancel(), solver memeriksa isCancelled().
+// Solver biasa dibatalkan lewat observer yang dibungkus guard (melempar CancellationException
+// pada ekspansi berikutnya); ARA* memeriksa token sendiri dan mengembalikan solusi terbaiknya.
+public final class CancellationToken {
+    private volatile boolean cancelled;
+
+    public void cancel() { cancelled = true; }
+    public boolean isCancelled() { return cancelled; }
+
+    public void throwIfCancelled() {
+        if (cancelled) throw new CancellationException("Search cancelled");
+    }
+
+    // Observer yang memeriksa token di setiap ekspansi (observer asli boleh null)
+    public SearchObserver guard(SearchObserver observer) {
+        return cell -> {
+            throwIfCancelled();
+            if (observer != null) observer.onExpand(cell);
+        };
+    }
+}
\ No newline at end of file
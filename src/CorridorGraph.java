@@ -0,0 +1,294 @@
+import java.util.Arrays;
+
+// Graph tereduksi hasil kontraksi koridor: hanya sel kunci (junction, dead end,
+// atau sel dengan derajat != 2) yang menjadi node; tiap koridor derajat-2 di
+// antaranya menjadi satu edge berbobot (jumlah cost terrain + jumlah langkah).
+// Start/goal yang berada di tengah koridor disambungkan saat query, sehingga
+// graph yang sama bisa dipakai ulang untuk semua query pada maze tersebut.
+public class CorridorGraph {
+    private final int[] nodeCells;  // Node -> sel (urut naik, untuk binary search)
+    private final int[] edgeStart;  // Offset CSR per node (panjang nodeCount + 1)
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final int[] edgeCost;   // Cost sel setelah node asal s/d node tujuan
+    private final int[] edgeSteps;
+    private final byte[] edgeDir;   // Arah keluar pertama dari node asal
+    private final int maxEdgeCost;  // Untuk ukuran bucket queue Dial
+
+    private CorridorGraph(int[] nodeCells, int[] edgeStart, int[] edgeFrom, int[] edgeTo,
+                          int[] edgeCost, int[] edgeSteps, byte[] edgeDir) {
+        this.nodeCells = nodeCells;
+        this.edgeStart = edgeStart;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.edgeCost = edgeCost;
+        this.edgeSteps = edgeSteps;
+        this.edgeDir = edgeDir;
+        int max = TerrainType.maxCost();
+        for (int c : edgeCost) max = Math.max(max, c);
+        this.maxEdgeCost = max;
+    }
+
+    public int getNodeCount() { return nodeCells.length; }
+    public int getEdgeCount() { return edgeTo.length; }
+
+    static boolean isKeyCell(MazeGrid m, int cell) {
+        return Integer.bitCount(m.getOpenMask(cell)) != 2;
+    }
+
+    public int nodeOf(int cell) {
+        int i = Arrays.binarySearch(nodeCells, cell);
+        return i >= 0 ? i : -1;
+    }
+
+    // --- BUILD ---
+    public static CorridorGraph build(MazeGrid m) {
+        int cellCount = m.getCellCount();
+        int nodeCount = 0;
+        for (int cell = 0; cell < cellCount; cell++) if (isKeyCell(m, cell)) nodeCount++;
+
+        int[] nodeCells = new int[nodeCount];
+        for (int cell = 0, n = 0; cell < cellCount; cell++) if (isKeyCell(m, cell)) nodeCells[n++] = cell;
+
+        int capacity = Math.max(16, nodeCount * 2);
+        int[] from = new int[capacity], to = new int[capacity], cost = new int[capacity], steps = new int[capacity];
+        byte[] dirs = new byte[capacity];
+        int[] edgeStart = new int[nodeCount + 1];
+        int[] walkOut = new int[2];
+        int edges = 0;
+
+        for (int node = 0; node < nodeCount; node++) {
+            edgeStart[node] = edges;
+            int cell = nodeCells[node];
+            for (int d = 0; d < 4; d++) {
+                if (!m.isOpen(cell, MazeGraphModel.DIR_BITS[d])) continue;
+                int end = walk(m, cell, d, -1, walkOut);
+                if (end == cell) continue; // Koridor melingkar kembali ke node yang sama: tidak berguna
+                if (edges == from.length) {
+                    int newCap = edges * 2;
+                    from = Arrays.copyOf(from, newCap); to = Arrays.copyOf(to, newCap);
+                    cost = Arrays.copyOf(cost, newCap); steps = Arrays.copyOf(steps, newCap);
+                    dirs = Arrays.copyOf(dirs, newCap);
+                }
+                from[edges] = node;
+                to[edges] = Arrays.binarySearch(nodeCells, end);
+                cost[edges] = walkOut[0];
+                steps[edges] = walkOut[1];
+                dirs[edges] = (byte) d;
+                edges++;
+            }
+        }
+        edgeStart[nodeCount] = edges;
+
+        return new CorridorGraph(nodeCells, edgeStart, Arrays.copyOf(from, edges), Arrays.copyOf(to, edges),
+                Arrays.copyOf(cost, edges), Arrays.copyOf(steps, edges), Arrays.copyOf(dirs, edges));
+    }
+
+    // Telusuri koridor dari origin ke arah dir sampai sel kunci atau stopAt.
+    // out[0] = cost sel setelah origin s/d sel akhir, out[1] = jumlah langkah.
+    // Return sel akhir, atau -1 jika kembali ke origin tanpa bertemu sel kunci.
+    private static int walk(MazeGrid m, int origin, int dir, int stopAt, int[] out) {
+        int cur = m.neighbor(origin, dir);
+        int back = dir ^ 1; // Arah kembali (0<->1, 2<->3)
+        int cost = m.getCost(cur), steps = 1;
+        while (cur != stopAt && !isKeyCell(m, cur)) {
+            if (cur == origin) return -1;
+            int next = Integer.numberOfTrailingZeros(m.getOpenMask(cur) & ~MazeGraphModel.DIR_BITS[back]);
+            cur = m.neighbor(cur, next);
+            back = next ^ 1;
+            cost += m.getCost(cur);
+            steps++;
+        }
+        out[0] = cost;
+        out[1] = steps;
+        return cur;
+    }
+
+    // Tulis sel setelah origin s/d sel akhir (inklusif) ke path mulai indeks at
+    private static int appendWalk(MazeGrid m, int origin, int dir, int stopAt, int[] path, int at) {
+        int cur = m.neighbor(origin, dir);
+        int back = dir ^ 1;
+        path[at++] = cur;
+        while (cur != stopAt && !isKeyCell(m, cur)) {
+            int next = Integer.numberOfTrailingZeros(m.getOpenMask(cur) & ~MazeGraphModel.DIR_BITS[back]);
+            cur = m.neighbor(cur, next);
+            back = next ^ 1;
+            path[at++] = cur;
+        }
+        return at;
+    }
+
+    // --- QUERY ---
+    // Dijkstra (bucket queue Dial, cost edge = jumlah cost koridor) di graph tereduksi,
+    // lalu ekspansi kembali ke path sel penuh.
+    // Return null jika maze tidak punya sel kunci (seluruh maze satu siklus); caller fallback.
+    public SearchResult solve(MazeGrid m, int start, int goal, SearchWorkspace ws, SearchObserver observer) {
+        if (start == goal) {
+            if (observer != null) observer.onExpand(start);
+            return new SearchResult(true, new int[]{start}, m.getCost(start), 1);
+        }
+        if (nodeCells.length == 0) return null;
+
+        int[] walkOut = new int[2];
+        ws.begin(nodeCells.length);
+        BucketQueue open = ws.bucketQueue(maxEdgeCost);
+        SearchStats stats = ws.stats();
+
+        // Kandidat langsung: start & goal di koridor yang sama
+        int best = Integer.MAX_VALUE;
+        int directDir = -1;
+
+        // Sumber: node start sendiri, atau dua node ujung koridor start.
+        // Parent negatif (-2 - dir) menandai node yang dicapai langsung dari start.
+        int startNode = nodeOf(start);
+        if (startNode != -1) {
+            ws.setDist(startNode, 0);
+            open.add(startNode, 0);
+            stats.pushes++;
+        } else {
+            for (int d = 0; d < 4; d++) {
+                if (!m.isOpen(start, MazeGraphModel.DIR_BITS[d])) continue;
+                int end = walk(m, start, d, goal, walkOut);
+                if (end == -1) return null;
+                if (end == goal && walkOut[0] < best) {
+                    best = walkOut[0];
+                    directDir = d;
+                }
+                if (end != goal) {
+                    int node = nodeOf(end);
+                    int oldDist = ws.getDist(node);
+                    if (walkOut[0] < oldDist) {
+                        ws.setDist(node, walkOut[0]);
+                        ws.setParent(node, -2 - d);
+                        if (oldDist == Integer.MAX_VALUE) open.add(node, walkOut[0]);
+                        else open.decreaseKey(node, oldDist, walkOut[0]);
+                        stats.pushes++;
+                    }
+                }
+            }
+        }
+
+        // Target: node goal sendiri, atau dua node ujung koridor goal (+ cost sisa ke goal)
+        int[] goalNode = {-1, -1};
+        int[] goalExtra = new int[2];
+        int[] goalDir = new int[2];
+        int goalKey = nodeOf(goal);
+        if (goalKey != -1) {
+            goalNode[0] = goalKey;
+        } else {
+            int k = 0;
+            for (int d = 0; d < 4; d++) {
+                if (!m.isOpen(goal, MazeGraphModel.DIR_BITS[d])) continue;
+                int end = walk(m, goal, d, -1, walkOut);
+                if (end == -1) return null;
+                goalNode[k] = nodeOf(end);
+                goalExtra[k] = walkOut[0] - m.getCost(end) + m.getCost(goal);
+                goalDir[k] = d;
+                k++;
+            }
+        }
+
+        int bestGoal = -1;
+        while (!open.isEmpty()) {
+            stats.frontierSize(open.size());
+            int u = open.poll();
+            int du = open.currentKey();
+            stats.pops++;
+            if (du >= best) break;
+            ws.markVisited(u);
+            if (observer != null) observer.onExpand(nodeCells[u]);
+            for (int k = 0; k < 2; k++) {
+                if (goalNode[k] == u && du + goalExtra[k] < best) {
+                    best = du + goalExtra[k];
+                    bestGoal = k;
+                }
+            }
+            for (int e = edgeStart[u]; e < edgeStart[u + 1]; e++) {
+                int v = edgeTo[e];
+                if (ws.isVisited(v)) {
+                    stats.staleSkips++;
+                    continue;
+                }
+                int nd = du + edgeCost[e];
+                int oldDist = ws.getDist(v);
+                if (nd < oldDist) {
+                    ws.setDist(v, nd);
+                    ws.setParent(v, e);
+                    if (oldDist == Integer.MAX_VALUE) open.add(v, nd);
+                    else open.decreaseKey(v, oldDist, nd);
+                    stats.pushes++;
+                    stats.relaxations++;
+                }
+            }
+        }
+
+        int visitedCount = ws.getVisitedCount();
+        if (best == Integer.MAX_VALUE) return new SearchResult(false, new int[0], Integer.MAX_VALUE, visitedCount);
+
+        int[] path;
+        if (bestGoal == -1) {
+            // Jalur langsung di sepanjang koridor start
+            walk(m, start, directDir, goal, walkOut);
+            path = new int[walkOut[1] + 1];
+            path[0] = start;
+            appendWalk(m, start, directDir, goal, path, 1);
+        } else {
+            path = expand(m, start, goal, ws, goalNode[bestGoal], goalKey != -1 ? -1 : goalDir[bestGoal], walkOut);
+        }
+
+        int cost = 0;
+        for (int cell : path) cost += m.getCost(cell);
+        return new SearchResult(true, path, cost, visitedCount);
+    }
+
+    // Ekspansi rantai edge tereduksi menjadi path sel dari start ke goal
+    private int[] expand(MazeGrid m, int start, int goal, SearchWorkspace ws, int endNode, int goalDir, int[] walkOut) {
+        // Hitung panjang: rantai edge + segmen start + segmen goal
+        int length = 1;
+        int node = endNode;
+        int link = ws.getParent(node);
+        while (link >= 0) {
+            length += edgeSteps[link];
+            node = edgeFrom[link];
+            link = ws.getParent(node);
+        }
+        int firstNode = node;
+        int startDir = link <= -2 ? -2 - link : -1;
+        if (startDir != -1) {
+            walk(m, start, startDir, -1, walkOut);
+            length += walkOut[1];
+        }
+        int goalSteps = 0;
+        if (goalDir != -1) {
+            walk(m, goal, goalDir, -1, walkOut);
+            goalSteps = walkOut[1];
+            length += goalSteps;
+        }
+
+        int[] path = new int[length];
+        path[0] = start;
+        int at = 1;
+        if (startDir != -1) at = appendWalk(m, start, startDir, nodeCells[firstNode], path, at);
+
+        // Edge ditulis dari belakang ke depan di posisi masing-masing
+        int chainEnd = length - goalSteps;
+        int pos = chainEnd;
+        node = endNode;
+        link = ws.getParent(node);
+        while (link >= 0) {
+            pos -= edgeSteps[link];
+            appendWalk(m, nodeCells[edgeFrom[link]], edgeDir[link], nodeCells[edgeTo[link]], path, pos);
+            node = edgeFrom[link];
+            link = ws.getParent(node);
+        }
+
+        if (goalDir != -1) {
+            // Walk dari goal ke node ujung, lalu dibalik (tanpa node ujung, ditutup goal)
+            int[] tail = new int[goalSteps];
+            appendWalk(m, goal, goalDir, -1, tail, 0);
+            for (int i = 0; i < goalSteps - 1; i++) path[chainEnd + i] = tail[goalSteps - 2 - i];
+            path[length - 1] = goal;
+        }
+        return path;
+    }
+}
\ No newline at end of file
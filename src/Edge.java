@@ -1,8 +0,0 @@
-public class Edge {
-    Node source;
-    Node target;
-    public Edge(Node s, Node t) {
-        this.source = s;
-        this.target = t;
-    }
-}
\ No newline at end of file
@@ -0,0 +1,158 @@
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+// Generator streaming (Eller's algorithm): maze dibangun baris per baris dan langsung
+// dikirim ke RowSink, memori hanya O(lebar) sehingga tinggi maze praktis tak terbatas.
+// Set per kolom dilacak dengan DSU kecil yang label-nya dipadatkan ulang tiap baris.
+// Terrain & wall density diterapkan sambil jalan: jalan pintas tambahan hanya dibuka
+// ke kanan atau ke bawah karena baris sebelumnya sudah dikirim.
+public class EllerGenerator {
+    private static final double JOIN_PROBABILITY = 0.5;
+    private static final double DOWN_PROBABILITY = 0.35;
+
+    private final int cols;
+    private final int rows;
+    private final double terrainProbability;
+    private final double wallDensity;
+    private final double extraPathFactor;
+    private final Random random;
+
+    public EllerGenerator(int cols, int rows, double terrainProb, double wallDensity, long seed) {
+        this.cols = cols;
+        this.rows = rows;
+        this.terrainProbability = terrainProb;
+        this.wallDensity = wallDensity;
+        this.extraPathFactor = (1.0 - wallDensity) * 0.4; // Sama dengan addExtraPaths di MazeGraphModel
+        this.random = new Random(seed);
+    }
+
+    public void generate(RowSink sink) throws IOException {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        long allocBefore = SearchStats.threadAllocatedBytes();
+        generateRows(sink);
+        if (event.shouldCommit()) {
+            event.algorithm = "Eller's (streaming)";
+            event.cols = cols;
+            event.rows = rows;
+            event.terrainProbability = terrainProbability;
+            event.wallDensity = wallDensity;
+            event.allocatedBytes = allocBefore < 0 ? -1 : SearchStats.threadAllocatedBytes() - allocBefore;
+            event.commit();
+        }
+    }
+
+    private void generateRows(RowSink sink) throws IOException {
+        int labels = 2 * cols; // Label terbawa < cols, label baru < 2 * cols
+        int[] set = new int[cols];
+        int[] dsu = new int[labels];
+        int[] members = new int[labels];
+        int[] pick = new int[labels]; // Urutan anggota yang dipaksa turun (set tanpa sel turun)
+        boolean[] hasDown = new boolean[labels];
+        boolean[] carried = new boolean[cols]; // Sel yang turun sebagai bagian spanning tree
+        int[] remap = new int[labels];
+        byte[] masks = new byte[cols];
+        byte[] nextMasks = new byte[cols];
+        byte[] terrain = new byte[cols];
+        Arrays.fill(set, -1);
+        int carriedSets = 0;
+
+        for (int y = 0; y < rows; y++) {
+            boolean lastRow = y == rows - 1;
+
+            // 1. Sel tanpa set mendapat set baru
+            int nextLabel = carriedSets;
+            for (int x = 0; x < cols; x++) if (set[x] == -1) set[x] = nextLabel++;
+            for (int l = 0; l < nextLabel; l++) {
+                dsu[l] = l;
+                members[l] = 0;
+                pick[l] = -1;
+                hasDown[l] = false;
+            }
+
+            // 2. Gabungkan tetangga horizontal secara acak (baris terakhir: semua set berbeda)
+            for (int x = 0; x + 1 < cols; x++) {
+                int a = find(dsu, set[x]), b = find(dsu, set[x + 1]);
+                if (a != b && (lastRow || random.nextDouble() < JOIN_PROBABILITY)) {
+                    masks[x] |= MazeGraphModel.EAST;
+                    masks[x + 1] |= MazeGraphModel.WEST;
+                    dsu[a] = b;
+                }
+            }
+
+            // 3. Tiap set wajib turun minimal sekali: set yang belum turun memilih satu anggota acak
+            Arrays.fill(nextMasks, (byte) 0);
+            Arrays.fill(carried, false);
+            if (!lastRow) {
+                for (int x = 0; x < cols; x++) {
+                    int r = find(dsu, set[x]);
+                    set[x] = r;
+                    members[r]++;
+                    if (random.nextDouble() < DOWN_PROBABILITY) {
+                        nextMasks[x] = MazeGraphModel.NORTH;
+                        carried[x] = true;
+                        hasDown[r] = true;
+                    }
+                }
+                for (int x = 0; x < cols; x++) {
+                    int r = set[x];
+                    if (hasDown[r]) continue;
+                    if (pick[r] < 0) pick[r] = random.nextInt(members[r]);
+                    if (pick[r]-- == 0) {
+                        nextMasks[x] = MazeGraphModel.NORTH;
+                        carried[x] = true;
+                        hasDown[r] = true;
+                    }
+                }
+            }
+
+            // 4. Terrain + jalan pintas (loop) sesuai wall density
+            for (int x = 0; x < cols; x++) {
+                TerrainType type = TerrainType.TERRACE;
+                if (random.nextDouble() < terrainProbability) type = TerrainType.getRandomObstacle(random);
+                if ((x == 0 && y == 0) || (x == cols - 1 && lastRow)) type = TerrainType.TERRACE; // Start & End aman
+                terrain[x] = (byte) type.ordinal();
+
+                if (extraPathFactor > 0 && random.nextDouble() < extraPathFactor) {
+                    boolean canEast = x + 1 < cols && (masks[x] & MazeGraphModel.EAST) == 0;
+                    boolean canSouth = !lastRow && nextMasks[x] == 0;
+                    if (canEast && (!canSouth || random.nextBoolean())) {
+                        masks[x] |= MazeGraphModel.EAST;
+                        masks[x + 1] |= MazeGraphModel.WEST;
+                    } else if (canSouth) {
+                        nextMasks[x] = MazeGraphModel.NORTH; // Bukan bagian set: hanya menambah loop
+                    }
+                }
+            }
+
+            // 5. Kirim baris, lalu siapkan set & mask baris berikutnya
+            for (int x = 0; x < cols; x++) if (nextMasks[x] != 0) masks[x] |= MazeGraphModel.SOUTH;
+            sink.acceptRow(y, masks, terrain);
+
+            Arrays.fill(remap, 0, nextLabel, -1);
+            int compact = 0;
+            for (int x = 0; x < cols; x++) {
+                if (carried[x]) {
+                    int r = set[x];
+                    if (remap[r] == -1) remap[r] = compact++;
+                    set[x] = remap[r];
+                } else {
+                    set[x] = -1;
+                }
+            }
+            carriedSets = compact;
+            byte[] swap = masks;
+            masks = nextMasks;
+            nextMasks = swap;
+        }
+    }
+
+    private static int find(int[] dsu, int i) {
+        while (dsu[i] != i) {
+            dsu[i] = dsu[dsu[i]]; // Path halving
+            i = dsu[i];
+        }
+        return i;
+    }
+}
\ No newline at end of file
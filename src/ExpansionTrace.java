@@ -0,0 +1,26 @@
+import java.util.Arrays;
+
+// Merekam urutan sel yang diekspansi solver sebagai int[] ringkas,
+// supaya animasi bisa di-replay terpisah dari fase komputasi.
+public class ExpansionTrace implements SearchObserver {
+    private int[] cells;
+    private int size;
+
+    public ExpansionTrace() {
+        this(1024);
+    }
+
+    public ExpansionTrace(int initialCapacity) {
+        this.cells = new int[Math.max(16, initialCapacity)];
+    }
+
+    @Override
+    public void onExpand(int cell) {
+        if (size == cells.length) cells = Arrays.copyOf(cells, cells.length * 2);
+        cells[size++] = cell;
+    }
+
+    public int size() { return size; }
+
+    public int[] toArray() { return Arrays.copyOf(cells, size); }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+// Layer eksplorasi untuk animasi MazePanel.
+// Satu penulis (thread solver/replay) dan satu pembaca (EDT), tanpa lock:
+// penulis menandai sel di bitset lalu mem-publish urutan sel baru lewat
+// counter volatile; EDT hanya membaca entri di bawah counter tersebut.
+public class ExplorationOverlay {
+    private final long[] bits;   // Bitset sel yang sudah dieksplor (hanya diakses penulis)
+    private final int[] order;   // Urutan sel yang baru dieksplor (append-only)
+    private int written;         // Counter lokal penulis
+    private volatile int published;
+
+    public ExplorationOverlay(int cellCount) {
+        this.bits = new long[(cellCount + 63) >>> 6];
+        this.order = new int[cellCount];
+    }
+
+    // Dipanggil oleh thread penulis; sel yang sudah ditandai diabaikan
+    public void mark(int cell) {
+        long mask = 1L << cell;
+        int word = cell >>> 6;
+        if ((bits[word] & mask) != 0) return;
+        bits[word] |= mask;
+        order[written++] = cell;
+        published = written;
+    }
+
+    // Jumlah sel yang sudah aman dibaca oleh EDT
+    public int publishedCount() { return published; }
+
+    public int cellAt(int i) { return order[i]; }
+}
\ No newline at end of file
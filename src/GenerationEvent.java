@@ -0,0 +1,19 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Event JFR per generasi maze (MazeGraphModel maupun generator streaming)
+@Name("maze.Generation")
+@Label("Maze Generation")
+@Category("Maze")
+@Description("Satu kali generate maze")
+public class GenerationEvent extends jdk.jfr.Event {
+    @Label("Algorithm") String algorithm;
+    @Label("Columns") int cols;
+    @Label("Rows") int rows;
+    @Label("Terrain Probability") double terrainProbability;
+    @Label("Wall Density") double wallDensity;
+    @Label("Allocated") @DataAmount long allocatedBytes;
+}
\ No newline at end of file
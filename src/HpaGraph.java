@@ -0,0 +1,331 @@
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Hierarchical pathfinding (HPA*): grid dibagi cluster berukuran tetap. Sel di tepi
+// cluster yang punya jalan terbuka ke cluster lain menjadi entrance. Cost antar
+// entrance dalam satu cluster (dengan bobot terrain) dihitung di muka secara paralel;
+// query dijawab di graph abstrak lalu hanya cluster yang dilalui yang di-refine.
+// Catatan: seperti HPA* pada umumnya, path dibatasi lewat entrance sehingga hasilnya
+// mendekati optimal, tidak selalu optimal.
+// Tabel cluster copy-on-write: edit membangun tabel baru lalu mempublikasikannya dengan satu
+// volatile write, sehingga query di thread lain selalu membaca graph abstrak yang utuh.
+public class HpaGraph {
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final MazeGrid maze;
+    private final int clusterSize;
+    private final int clusterCols;
+    private final int clusterRows;
+    private volatile Cluster[] clusters; // Tidak pernah diubah di tempat setelah dipublikasikan
+
+    // Scratch per thread untuk Dijkstra lokal di dalam satu cluster
+    private final ThreadLocal<ClusterScratch> scratch;
+
+    private HpaGraph(MazeGrid maze, int clusterSize) {
+        this.maze = maze;
+        this.clusterSize = clusterSize;
+        this.clusterCols = (maze.getCols() + clusterSize - 1) / clusterSize;
+        this.clusterRows = (maze.getRows() + clusterSize - 1) / clusterSize;
+        this.scratch = ThreadLocal.withInitial(() -> new ClusterScratch(clusterSize * clusterSize));
+    }
+
+    // Precompute semua cluster secara paralel (tiap cluster independen)
+    public static HpaGraph build(MazeGrid maze, int clusterSize) {
+        HpaGraph graph = new HpaGraph(maze, clusterSize);
+        Cluster[] table = new Cluster[graph.clusterCols * graph.clusterRows];
+        IntStream.range(0, table.length).parallel().forEach(c -> {
+            int[] cells = graph.findEntrances(c);
+            table[c] = new Cluster(cells, graph.computeIntraDistances(c, cells));
+        });
+        graph.clusters = table;
+        return graph;
+    }
+
+    public int getClusterCount() { return clusters.length; }
+
+    public int getEntranceCount() {
+        int total = 0;
+        for (Cluster cluster : clusters) total += cluster.entrances.length;
+        return total;
+    }
+
+    // Terrain satu sel berubah: cukup hitung ulang cost intra-cluster cluster tersebut.
+    // Cost edge antar-cluster dibaca langsung dari model saat query.
+    // Dipanggil di bawah monitor model (setTerrain), jadi dua edit tidak saling menimpa.
+    public void onTerrainChanged(int cell) {
+        int c = clusterOf(cell);
+        Cluster[] table = clusters.clone();
+        table[c] = new Cluster(table[c].entrances, computeIntraDistances(c, table[c].entrances));
+        clusters = table;
+    }
+
+    // Dinding antara a dan b berubah. Jika melintasi batas cluster, entrance kedua
+    // cluster ikut berubah; selain itu cukup cost intra-cluster yang dihitung ulang.
+    // Kedua cluster diganti dalam satu publikasi (setWall memegang monitor model).
+    public void onWallChanged(int a, int b) {
+        int ca = clusterOf(a), cb = clusterOf(b);
+        Cluster[] table = clusters.clone();
+        table[ca] = rebuildCluster(ca, ca != cb);
+        if (ca != cb) table[cb] = rebuildCluster(cb, true);
+        clusters = table;
+    }
+
+    private Cluster rebuildCluster(int c, boolean entrancesChanged) {
+        int[] cells = entrancesChanged ? findEntrances(c) : clusters[c].entrances;
+        return new Cluster(cells, computeIntraDistances(c, cells));
+    }
+
+    // --- STRUKTUR CLUSTER ---
+    private int clusterOf(int cell) {
+        return (maze.yOf(cell) / clusterSize) * clusterCols + maze.xOf(cell) / clusterSize;
+    }
+
+    private int clusterX0(int c) { return (c % clusterCols) * clusterSize; }
+    private int clusterY0(int c) { return (c / clusterCols) * clusterSize; }
+    private int clusterWidth(int c) { return Math.min(clusterSize, maze.getCols() - clusterX0(c)); }
+    private int clusterHeight(int c) { return Math.min(clusterSize, maze.getRows() - clusterY0(c)); }
+
+    private int localIndex(int c, int cell) {
+        return (maze.yOf(cell) - clusterY0(c)) * clusterSize + (maze.xOf(cell) - clusterX0(c));
+    }
+
+
+    private int[] findEntrances(int c) {
+        int x0 = clusterX0(c), y0 = clusterY0(c), w = clusterWidth(c), h = clusterHeight(c);
+        int[] found = new int[2 * (w + h)];
+        int n = 0;
+        for (int y = y0; y < y0 + h; y++) {
+            for (int x = x0; x < x0 + w; x++) {
+                if (x != x0 && x != x0 + w - 1 && y != y0 && y != y0 + h - 1) continue; // Hanya tepi
+                int cell = maze.index(x, y);
+                for (int d = 0; d < 4; d++) {
+                    if (maze.isOpen(cell, MazeGraphModel.DIR_BITS[d]) && clusterOf(maze.neighbor(cell, d)) != c) {
+                        found[n++] = cell;
+                        break;
+                    }
+                }
+            }
+        }
+        int[] result = Arrays.copyOf(found, n);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int[] computeIntraDistances(int c, int[] cells) {
+        int k = cells.length;
+        int[] matrix = new int[k * k];
+        ClusterScratch sc = scratch.get();
+        for (int i = 0; i < k; i++) {
+            clusterDijkstra(c, cells[i], sc);
+            for (int j = 0; j < k; j++) matrix[i * k + j] = sc.dist[localIndex(c, cells[j])];
+        }
+        return matrix;
+    }
+
+    // Dijkstra (bucket queue) dibatasi di dalam cluster c, hasil di sc.dist / sc.parent (indeks lokal)
+    private void clusterDijkstra(int c, int source, ClusterScratch sc) {
+        int x0 = clusterX0(c), y0 = clusterY0(c), w = clusterWidth(c), h = clusterHeight(c);
+        Arrays.fill(sc.dist, INF);
+        Arrays.fill(sc.closed, false);
+        BucketQueue queue = sc.queue;
+        queue.clear();
+
+        int src = localIndex(c, source);
+        sc.dist[src] = 0;
+        sc.parent[src] = -1;
+        queue.add(src, 0);
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            int du = queue.currentKey();
+            sc.closed[u] = true;
+            sc.settled++;
+            int cell = maze.index(x0 + u % clusterSize, y0 + u / clusterSize);
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(cell, MazeGraphModel.DIR_BITS[d])) continue;
+                int nx = x0 + u % clusterSize + MazeGraphModel.DX[d];
+                int ny = y0 + u / clusterSize + MazeGraphModel.DY[d];
+                if (nx < x0 || nx >= x0 + w || ny < y0 || ny >= y0 + h) continue;
+                int v = (ny - y0) * clusterSize + (nx - x0);
+                if (sc.closed[v]) continue;
+                int nd = du + maze.getCost(maze.index(nx, ny));
+                int old = sc.dist[v];
+                if (nd < old) {
+                    sc.dist[v] = nd;
+                    sc.parent[v] = u;
+                    if (old == INF) queue.add(v, nd);
+                    else queue.decreaseKey(v, old, nd);
+                }
+            }
+        }
+    }
+
+    // --- QUERY ---
+    public SearchResult solve(int start, int goal, SearchWorkspace ws, SearchObserver observer) {
+        if (start == goal) {
+            if (observer != null) observer.onExpand(start);
+            return new SearchResult(true, new int[]{start}, maze.getCost(start), 1);
+        }
+        Cluster[] table = clusters; // Satu snapshot untuk seluruh query
+        ClusterScratch sc = scratch.get();
+        sc.settled = 0;
+        int cs = clusterOf(start), cg = clusterOf(goal);
+
+        // Sisipkan goal: cost entrance -> goal = d(goal -> e) - cost(e) + cost(goal)
+        clusterDijkstra(cg, goal, sc);
+        int[] goalEntrances = table[cg].entrances;
+        int[] goalExtra = new int[goalEntrances.length];
+        for (int j = 0; j < goalEntrances.length; j++) {
+            int d = sc.dist[localIndex(cg, goalEntrances[j])];
+            goalExtra[j] = d == INF ? INF : d - maze.getCost(goalEntrances[j]) + maze.getCost(goal);
+        }
+        int best = INF;
+        int bestEntrance = -1;
+        if (cs == cg) {
+            int d = sc.dist[localIndex(cg, start)];
+            if (d != INF) best = d - maze.getCost(start) + maze.getCost(goal); // Langsung di dalam cluster
+        }
+
+        // Sisipkan start: seed semua entrance cluster start yang terjangkau
+        ws.begin(maze.getCellCount());
+        IndexedMinHeap open = ws.indexedHeap();
+        SearchStats stats = ws.stats(); // Hanya graph abstrak; Dijkstra lokal cluster tercatat di visited
+        clusterDijkstra(cs, start, sc);
+        for (int e : table[cs].entrances) {
+            int d = sc.dist[localIndex(cs, e)];
+            if (d == INF) continue;
+            ws.setDist(e, d);
+            if (e != start) ws.setParent(e, start);
+            int h = manhattan(e, goal);
+            open.push(e, d + h, h);
+            stats.pushes++;
+        }
+
+        // A* (Manhattan, seperti solver A*) di graph abstrak (entrance + edge intra/antar cluster)
+        while (!open.isEmpty() && open.peekPrimaryKey() < best) {
+            stats.frontierSize(open.size());
+            int u = open.poll();
+            int du = ws.getDist(u);
+            stats.pops++;
+            if (ws.isVisited(u)) stats.staleSkips++;
+            ws.markVisited(u);
+            if (observer != null) observer.onExpand(u);
+            int cu = clusterOf(u);
+            Cluster cluster = table[cu];
+            int iu = Arrays.binarySearch(cluster.entrances, u);
+            if (cu == cg && goalExtra[iu] != INF && du + goalExtra[iu] < best) {
+                best = du + goalExtra[iu];
+                bestEntrance = u;
+            }
+            int[] cells = cluster.entrances;
+            int k = cells.length;
+            int[] matrix = cluster.intraDist;
+            for (int j = 0; j < k; j++) {
+                int w = matrix[iu * k + j];
+                if (j != iu && w != INF) relax(ws, open, u, cells[j], du + w, goal);
+            }
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(u, MazeGraphModel.DIR_BITS[d])) continue;
+                int v = maze.neighbor(u, d);
+                if (clusterOf(v) != cu) relax(ws, open, u, v, du + maze.getCost(v), goal);
+            }
+        }
+
+        int abstractVisited = ws.getVisitedCount();
+        if (best == INF) return new SearchResult(false, new int[0], INF, abstractVisited + sc.settled);
+
+        // Rantai abstrak: start, e1..ek, goal
+        int chainLen = 2;
+        for (int c = bestEntrance; c != -1 && c != start; c = ws.getParent(c)) chainLen++;
+        int[] chain = new int[chainLen];
+        chain[0] = start;
+        chain[chainLen - 1] = goal;
+        int i = chainLen - 2;
+        for (int c = bestEntrance; c != -1 && c != start; c = ws.getParent(c)) chain[i--] = c;
+
+        // Refine: pasangan dalam cluster yang sama di-search lokal, pasangan lintas cluster bertetangga
+        CellPath path = new CellPath();
+        path.add(start);
+        for (int p = 1; p < chainLen; p++) {
+            int a = chain[p - 1], b = chain[p];
+            if (a == b) continue;
+            int c = clusterOf(a);
+            if (c != clusterOf(b)) {
+                path.add(b);
+                continue;
+            }
+            clusterDijkstra(c, a, sc);
+            int from = localIndex(c, a);
+            int steps = 0;
+            for (int u = localIndex(c, b); u != from; u = sc.parent[u]) steps++;
+            int base = path.size;
+            path.ensure(base + steps);
+            int x0 = clusterX0(c), y0 = clusterY0(c);
+            int at = base + steps - 1;
+            for (int u = localIndex(c, b); u != from; u = sc.parent[u]) {
+                path.cells[at--] = maze.index(x0 + u % clusterSize, y0 + u / clusterSize);
+            }
+            path.size = base + steps;
+        }
+
+        int[] cells = Arrays.copyOf(path.cells, path.size);
+        int cost = 0;
+        for (int cell : cells) cost += maze.getCost(cell);
+        return new SearchResult(true, cells, cost, abstractVisited + sc.settled);
+    }
+
+    private void relax(SearchWorkspace ws, IndexedMinHeap open, int u, int v, int nd, int goal) {
+        if (nd < ws.getDist(v)) {
+            int h = manhattan(v, goal);
+            ws.setDist(v, nd);
+            ws.setParent(v, u);
+            open.push(v, nd + h, h);
+            SearchStats stats = ws.stats();
+            stats.pushes++;
+            stats.relaxations++;
+        }
+    }
+
+    private int manhattan(int a, int b) {
+        return Math.abs(maze.xOf(a) - maze.xOf(b)) + Math.abs(maze.yOf(a) - maze.yOf(b));
+    }
+
+    private static final class Cluster {
+        final int[] entrances; // Sel entrance (urut naik)
+        final int[] intraDist; // Matriks k x k cost entrance -> entrance
+
+        Cluster(int[] entrances, int[] intraDist) {
+            this.entrances = entrances;
+            this.intraDist = intraDist;
+        }
+    }
+
+    private static final class ClusterScratch {
+        final int[] dist;
+        final int[] parent;
+        final boolean[] closed;
+        final BucketQueue queue;
+        int settled; // Jumlah sel yang di-settle (untuk statistik visited)
+
+        ClusterScratch(int cells) {
+            dist = new int[cells];
+            parent = new int[cells];
+            closed = new boolean[cells];
+            queue = new BucketQueue(cells, TerrainType.maxCost());
+        }
+    }
+
+    private static final class CellPath {
+        int[] cells = new int[64];
+        int size;
+
+        void add(int cell) {
+            ensure(size + 1);
+            cells[size++] = cell;
+        }
+
+        void ensure(int capacity) {
+            if (capacity > cells.length) cells = Arrays.copyOf(cells, Math.max(capacity, cells.length * 2));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+import java.util.Arrays;
+
+// Heap d-ary (d = 4) terindeks atas id sel dengan decrease-key sungguhan.
+// Prioritas: primaryKey terkecil, tie-breaker secondaryKey terkecil
+// (untuk A*: fCost lalu hCost, sama seperti AStarState.compareTo dulu).
+// Tiap sel paling banyak satu entri, jadi tidak ada entri basi di heap.
+public class IndexedMinHeap {
+    private static final int ARITY = 4;
+
+    private final int[] heap;       // Posisi heap -> sel
+    private final int[] pos;        // Sel -> posisi heap (-1 jika tidak ada)
+    private final int[] primaryKey; // Key per sel
+    private final int[] secondaryKey;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.pos = new int[capacity];
+        this.primaryKey = new int[capacity];
+        this.secondaryKey = new int[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public int capacity() { return heap.length; }
+
+    // O(size): hanya sel yang masih di heap yang perlu dilepas
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public boolean contains(int cell) { return pos[cell] != -1; }
+    public int cellAt(int i) { return heap[i]; } // Urutan heap, 0 <= i < size()
+
+    public int peek() { return heap[0]; }
+    public int peekPrimaryKey() { return primaryKey[heap[0]]; }
+    public int primaryKeyOf(int cell) { return primaryKey[cell]; }
+    public int secondaryKeyOf(int cell) { return secondaryKey[cell]; }
+
+    // Sisip baru, atau perbarui key jika sel sudah ada di heap
+    public void push(int cell, int primary, int secondary) {
+        if (pos[cell] != -1) {
+            update(cell, primary, secondary);
+            return;
+        }
+        primaryKey[cell] = primary;
+        secondaryKey[cell] = secondary;
+        pos[cell] = size;
+        heap[size++] = cell;
+        siftUp(size - 1);
+    }
+
+    // Perbarui key sel yang sudah ada (naik jika lebih kecil, turun jika lebih besar)
+    public void update(int cell, int primary, int secondary) {
+        boolean smaller = less(primary, secondary, primaryKey[cell], secondaryKey[cell]);
+        primaryKey[cell] = primary;
+        secondaryKey[cell] = secondary;
+        if (smaller) siftUp(pos[cell]);
+        else siftDown(pos[cell]);
+    }
+
+    public int poll() {
+        int top = heap[0];
+        pos[top] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    public void remove(int cell) {
+        int i = pos[cell];
+        if (i == -1) return;
+        pos[cell] = -1;
+        size--;
+        if (i == size) return;
+        int last = heap[size];
+        heap[i] = last;
+        pos[last] = i;
+        siftUp(i);
+        siftDown(pos[last]);
+    }
+
+    private static boolean less(int p1, int s1, int p2, int s2) {
+        return p1 < p2 || (p1 == p2 && s1 < s2);
+    }
+
+    private boolean lessAt(int cellA, int cellB) {
+        return less(primaryKey[cellA], secondaryKey[cellA], primaryKey[cellB], secondaryKey[cellB]);
+    }
+
+    private void siftUp(int i) {
+        int cell = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) / ARITY;
+            int parentCell = heap[parent];
+            if (!lessAt(cell, parentCell)) break;
+            heap[i] = parentCell;
+            pos[parentCell] = i;
+            i = parent;
+        }
+        heap[i] = cell;
+        pos[cell] = i;
+    }
+
+    private void siftDown(int i) {
+        int cell = heap[i];
+        while (true) {
+            int first = i * ARITY + 1;
+            if (first >= size) break;
+            int best = first;
+            int last = Math.min(first + ARITY, size);
+            for (int c = first + 1; c < last; c++) {
+                if (lessAt(heap[c], heap[best])) best = c;
+            }
+            if (!lessAt(heap[best], cell)) break;
+            heap[i] = heap[best];
+            pos[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = cell;
+        pos[cell] = i;
+    }
+}
\ No newline at end of file
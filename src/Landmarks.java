@@ -0,0 +1,136 @@
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Heuristik ALT (A*, Landmarks, Triangle inequality). Untuk beberapa landmark L disimpan
+// jarak eksak d(L, v) ke semua sel (Dijkstra per landmark, paralel). Karena cost edge
+// u -> v = cost(v), arah sebaliknya didapat tanpa Dijkstra kedua:
+//   d(v, L) = d(L, v) - cost(v) + cost(L)
+// Batas bawah d(v, g) >= max(d(L, g) - d(L, v), d(v, L) - d(g, L)) admissible dan konsisten
+// walau TERRACE ber-cost 0, jadi A* dengan heuristik ini tetap optimal.
+public class Landmarks {
+    public static final int DEFAULT_COUNT = 8;
+    private static final long MAX_FIELD_BYTES = 256L << 20; // Batas memori semua distance field
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final MazeGrid maze;
+    private final long version;   // Versi maze saat build dimulai (field basi jika maze sudah berubah)
+    private final int k;
+    private final int[] cells;    // Sel landmark
+    private final int[] cellCost; // Cost terrain tiap landmark
+    private final int[] dist;     // d(L_i, v) di dist[v * k + i]: satu evaluasi heuristik = satu cache line
+
+    private Landmarks(MazeGrid maze, int[] cells) {
+        this.maze = maze;
+        this.version = maze.getVersion();
+        this.k = cells.length;
+        this.cells = cells;
+        this.cellCost = new int[k];
+        for (int i = 0; i < k; i++) cellCost[i] = maze.getCost(cells[i]);
+        this.dist = new int[maze.getCellCount() * k];
+    }
+
+    // Null jika satu distance field pun melebihi batas memori (ALT kembali ke Dijkstra)
+    public static Landmarks build(MazeGrid maze, int count) {
+        long n = maze.getCellCount();
+        int k = (int) Math.min(count, MAX_FIELD_BYTES / (4L * n));
+        if (k < 1) return null;
+        // selectCells bisa memilih lebih sedikit dari k (maze kecil dengan sel tepi < k)
+        Landmarks lm = new Landmarks(maze, selectCells(maze, k));
+        IntStream.range(0, lm.k).parallel().forEach(lm::computeField);
+        return lm;
+    }
+
+    // Farthest-point di sepanjang tepi grid (jarak Manhattan): sudut dulu, lalu titik tengah sisi.
+    // Dipilih geometris, bukan dari jarak graph, agar semua Dijkstra bisa berjalan paralel.
+    private static int[] selectCells(MazeGrid maze, int k) {
+        int cols = maze.getCols(), rows = maze.getRows();
+        int perimeter = rows == 1 || cols == 1 ? cols * rows : 2 * (cols + rows) - 4;
+        int[] border = new int[perimeter];
+        int m = 0;
+        for (int x = 0; x < cols; x++) border[m++] = maze.index(x, 0);
+        for (int y = 1; y < rows; y++) border[m++] = maze.index(cols - 1, y);
+        if (rows > 1) for (int x = cols - 2; x >= 0; x--) border[m++] = maze.index(x, rows - 1);
+        if (cols > 1) for (int y = rows - 2; y >= 1; y--) border[m++] = maze.index(0, y);
+
+        k = Math.min(k, m);
+        int[] chosen = new int[k];
+        int[] nearest = new int[m]; // Jarak Manhattan ke landmark terdekat yang sudah dipilih
+        Arrays.fill(nearest, INF);
+        int pick = 0; // Sel (0, 0)
+        for (int i = 0; i < k; i++) {
+            chosen[i] = border[pick];
+            int px = maze.xOf(chosen[i]), py = maze.yOf(chosen[i]);
+            int far = -1;
+            for (int j = 0; j < m; j++) {
+                int d = Math.abs(maze.xOf(border[j]) - px) + Math.abs(maze.yOf(border[j]) - py);
+                if (d < nearest[j]) nearest[j] = d;
+                if (far == -1 || nearest[j] > nearest[far]) far = j;
+            }
+            pick = far;
+        }
+        return chosen;
+    }
+
+    // Dijkstra penuh (bucket queue) dari landmark i, hasil langsung ke kolom i
+    private void computeField(int i) {
+        int n = maze.getCellCount();
+        for (int v = 0; v < n; v++) dist[v * k + i] = INF;
+        BucketQueue queue = new BucketQueue(n, TerrainType.maxCost());
+        dist[cells[i] * k + i] = 0;
+        queue.add(cells[i], 0);
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            int du = queue.currentKey();
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(u, MazeGraphModel.DIR_BITS[d])) continue;
+                int v = maze.neighbor(u, d);
+                int nd = du + maze.getCost(v);
+                int old = dist[v * k + i];
+                if (nd < old) {
+                    dist[v * k + i] = nd;
+                    if (old == INF) queue.add(v, nd);
+                    else queue.decreaseKey(v, old, nd);
+                }
+            }
+        }
+    }
+
+    public long getVersion() { return version; }
+    public int getCount() { return k; }
+    public int getCell(int i) { return cells[i]; }
+
+    // Heuristik menuju satu goal: d(L, g) & d(g, L) dihitung sekali per query
+    public Target toward(int goal) {
+        return new Target(goal);
+    }
+
+    public final class Target {
+        private final int[] fromLandmark = new int[k]; // d(L, g)
+        private final int[] toLandmark = new int[k];   // d(g, L)
+
+        private Target(int goal) {
+            int goalCost = maze.getCost(goal);
+            for (int i = 0; i < k; i++) {
+                int d = dist[goal * k + i];
+                fromLandmark[i] = d;
+                toLandmark[i] = d == INF ? INF : d - goalCost + cellCost[i];
+            }
+        }
+
+        // Batas bawah cost v -> goal (konvensi solver: tanpa cost v, termasuk cost goal)
+        public int estimate(int v) {
+            int best = 0;
+            int base = v * k;
+            int costV = maze.getCost(v);
+            for (int i = 0; i < k; i++) {
+                int dLv = dist[base + i];
+                if (dLv == INF || fromLandmark[i] == INF) continue; // Beda komponen: tidak ada info
+                int forward = fromLandmark[i] - dLv;
+                int backward = dLv - costV + cellCost[i] - toLandmark[i];
+                if (forward > best) best = forward;
+                if (backward > best) best = backward;
+            }
+            return best;
+        }
+    }
+}
\ No newline at end of file
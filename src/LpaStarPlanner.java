@@ -0,0 +1,167 @@
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// LPA* (Lifelong Planning A*) untuk maze yang diedit saat runtime: nilai g/rhs dari
+// search sebelumnya disimpan, sehingga setelah terrain satu sel atau satu dinding
+// berubah hanya sel yang nilainya terpengaruh yang diproses ulang.
+// Jarak disimpan lexicographic (cost, langkah): langkah sebagai tie-breaker membuat
+// semua edge berbobot positif walau TERRACE cost 0, jadi path selalu bisa diturunkan
+// dari g tanpa siklus. Heuristik nol (Manhattan tidak admissible karena TERRACE = 0).
+// Perubahan dicatat tanpa lock (EDT tidak menunggu replan yang sedang jalan di thread lain)
+// dan diproses di awal replan berikutnya; replan sendiri tidak pernah berjalan bersamaan.
+public class LpaStarPlanner {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final MazeGrid maze;
+    private final int start;
+    private final int goal;
+
+    private final int[] gCost;
+    private final int[] gSteps;
+    private final int[] rhsCost;
+    private final int[] rhsSteps;
+    private final IndexedMinHeap open; // Key = min(g, rhs): primary cost, secondary langkah
+    private final ConcurrentLinkedQueue<Integer> changed = new ConcurrentLinkedQueue<>(); // Sel menunggu updateVertex
+
+    private int expanded; // Ekspansi pada replan terakhir
+    private SearchStats stats = new SearchStats(); // Counter sejak replan sebelumnya (termasuk edit)
+    private SearchObserver observer;
+
+    public LpaStarPlanner(MazeGrid maze, int start, int goal) {
+        this.maze = maze;
+        this.start = start;
+        this.goal = goal;
+        int n = maze.getCellCount();
+        gCost = new int[n];
+        gSteps = new int[n];
+        rhsCost = new int[n];
+        rhsSteps = new int[n];
+        Arrays.fill(gCost, INF);
+        Arrays.fill(gSteps, INF);
+        Arrays.fill(rhsCost, INF);
+        Arrays.fill(rhsSteps, INF);
+        open = new IndexedMinHeap(n);
+
+        rhsCost[start] = 0;
+        rhsSteps[start] = 0;
+        open.push(start, 0, 0);
+        stats.pushes++;
+    }
+
+    public MazeGrid getMaze() { return maze; }
+    public int getStart() { return start; }
+    public int getGoal() { return goal; }
+
+    // Terrain sel berubah: hanya edge yang masuk ke sel itu yang berubah cost-nya
+    public void cellChanged(int cell) {
+        changed.add(cell);
+    }
+
+    // Dinding antara a dan b dibuka / ditutup
+    public void wallChanged(int a, int b) {
+        changed.add(a);
+        changed.add(b);
+    }
+
+    // Perbaiki path setelah perubahan (atau hitung pertama kali); visited = ekspansi run ini
+    public synchronized SearchResult replan(SearchObserver observer) {
+        long allocBefore = SearchStats.threadAllocatedBytes();
+        long startTime = System.nanoTime();
+        for (Integer cell; (cell = changed.poll()) != null; ) updateVertex(cell);
+        this.observer = observer;
+        expanded = 0;
+        computeShortestPath();
+        this.observer = null;
+        SearchResult result = buildResult();
+        result.computeNano = System.nanoTime() - startTime;
+        long allocAfter = SearchStats.threadAllocatedBytes();
+        if (allocBefore >= 0 && allocAfter >= 0) stats.allocatedBytes = allocAfter - allocBefore;
+        result.stats = stats;
+        stats = new SearchStats();
+        return result;
+    }
+
+    private static boolean less(int c1, int s1, int c2, int s2) {
+        return c1 < c2 || (c1 == c2 && s1 < s2);
+    }
+
+    private void updateVertex(int u) {
+        if (u != start) {
+            int bestCost = INF, bestSteps = INF;
+            int cost = maze.getCost(u);
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(u, MazeGraphModel.DIR_BITS[d])) continue;
+                int v = maze.neighbor(u, d);
+                if (gCost[v] == INF) continue;
+                int c = gCost[v] + cost, s = gSteps[v] + 1;
+                if (less(c, s, bestCost, bestSteps)) {
+                    bestCost = c;
+                    bestSteps = s;
+                }
+            }
+            if (less(bestCost, bestSteps, rhsCost[u], rhsSteps[u])) stats.relaxations++;
+            rhsCost[u] = bestCost;
+            rhsSteps[u] = bestSteps;
+        }
+        if (gCost[u] != rhsCost[u] || gSteps[u] != rhsSteps[u]) {
+            boolean rhsSmaller = less(rhsCost[u], rhsSteps[u], gCost[u], gSteps[u]);
+            open.push(u, rhsSmaller ? rhsCost[u] : gCost[u], rhsSmaller ? rhsSteps[u] : gSteps[u]);
+            stats.pushes++;
+            stats.frontierSize(open.size());
+        } else if (open.contains(u)) {
+            open.remove(u);
+        } else {
+            stats.staleSkips++; // Sudah konsisten: tidak ada yang perlu diproses
+        }
+    }
+
+    private void computeShortestPath() {
+        while (!open.isEmpty()) {
+            int top = open.peek();
+            boolean goalConsistent = gCost[goal] == rhsCost[goal] && gSteps[goal] == rhsSteps[goal];
+            boolean rhsSmaller = less(rhsCost[goal], rhsSteps[goal], gCost[goal], gSteps[goal]);
+            int goalKeyCost = rhsSmaller ? rhsCost[goal] : gCost[goal];
+            int goalKeySteps = rhsSmaller ? rhsSteps[goal] : gSteps[goal];
+            if (goalConsistent && !less(open.primaryKeyOf(top), open.secondaryKeyOf(top), goalKeyCost, goalKeySteps)) break;
+
+            int u = open.poll();
+            expanded++;
+            stats.pops++;
+            if (observer != null) observer.onExpand(u);
+            if (less(rhsCost[u], rhsSteps[u], gCost[u], gSteps[u])) {
+                // Overconsistent: nilai baru lebih kecil, kunci lalu sebarkan ke tetangga
+                gCost[u] = rhsCost[u];
+                gSteps[u] = rhsSteps[u];
+            } else {
+                // Underconsistent: nilai lama tidak berlaku lagi, reset lalu hitung ulang
+                gCost[u] = INF;
+                gSteps[u] = INF;
+                updateVertex(u);
+            }
+            for (int d = 0; d < 4; d++) {
+                if (maze.isOpen(u, MazeGraphModel.DIR_BITS[d])) updateVertex(maze.neighbor(u, d));
+            }
+        }
+    }
+
+    // Turunkan path dari g: tiap langkah mundur mengurangi jumlah langkah tepat satu
+    private SearchResult buildResult() {
+        if (gCost[goal] == INF) return new SearchResult(false, new int[0], INF, expanded);
+        int[] path = new int[gSteps[goal] + 1];
+        int cur = goal;
+        for (int i = path.length - 1; i > 0; i--) {
+            path[i] = cur;
+            int cost = maze.getCost(cur);
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(cur, MazeGraphModel.DIR_BITS[d])) continue;
+                int v = maze.neighbor(cur, d);
+                if (gCost[v] != INF && gCost[v] + cost == gCost[cur] && gSteps[v] + 1 == gSteps[cur]) {
+                    cur = v;
+                    break;
+                }
+            }
+        }
+        path[0] = cur;
+        return new SearchResult(true, path, gCost[goal] + maze.getCost(start), expanded);
+    }
+}
\ No newline at end of file
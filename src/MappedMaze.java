@@ -0,0 +1,135 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Maze read-only langsung di atas file MazeFile yang di-map ke memori. Tidak ada salinan
+// di heap: data dibaca dari page cache (dibagi antar proses). Saat dibuka semua sel
+// divalidasi sekali (satu scan berurutan) karena solver memakai grid ini tanpa cek lagi.
+// Region dibagi per chunk 1 GB karena satu MappedByteBuffer dibatasi 2 GB.
+public final class MappedMaze implements MazeGrid, Closeable {
+    private static final int CHUNK_SHIFT = 30;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] chunks;
+    private final int cols;
+    private final int rows;
+    private final long version = MazeGraphModel.nextVersion();
+
+    private volatile CorridorGraph corridorGraph;
+    private volatile HpaGraph hpaGraph;
+    private volatile Landmarks landmarks;
+    private MazeTree tree;
+    private boolean treeChecked;
+
+    private MappedMaze(FileChannel channel, MappedByteBuffer[] chunks, int cols, int rows) {
+        this.channel = channel;
+        this.chunks = chunks;
+        this.cols = cols;
+        this.rows = rows;
+    }
+
+    public static MappedMaze open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(MazeFile.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) { }
+            if (header.hasRemaining()) throw new IOException("Bukan file maze: header terpotong");
+            header.flip();
+            if (header.getInt() != MazeFile.MAGIC) throw new IOException("Bukan file maze: magic salah");
+            int formatVersion = header.getInt();
+            if (formatVersion != MazeFile.FORMAT_VERSION) throw new IOException("Versi format tidak didukung: " + formatVersion);
+            int cols = header.getInt();
+            int rows = header.getInt();
+            long cellCount = (long) cols * rows;
+            if (cols <= 0 || rows <= 0 || cellCount > Integer.MAX_VALUE) throw new IOException("Ukuran maze tidak valid: " + cols + "x" + rows);
+            if (channel.size() < MazeFile.HEADER_SIZE + cellCount) throw new IOException("File maze terpotong");
+
+            int chunkCount = (int) ((cellCount + CHUNK_MASK) >>> CHUNK_SHIFT);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long offset = (long) i << CHUNK_SHIFT;
+                long size = Math.min(1L << CHUNK_SHIFT, cellCount - offset);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, MazeFile.HEADER_SIZE + offset, size);
+            }
+            MappedMaze maze = new MappedMaze(channel, chunks, cols, rows);
+            for (int cell = 0; cell < cellCount; cell++) {
+                String error = MazeFile.invalidCell(maze, cell);
+                if (error != null) throw new IOException("File maze rusak di sel (" + maze.xOf(cell) + ", " + maze.yOf(cell) + "): " + error);
+            }
+            return maze;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private int cellByte(int cell) {
+        return chunks[cell >>> CHUNK_SHIFT].get(cell & CHUNK_MASK);
+    }
+
+    @Override public int getCols() { return cols; }
+    @Override public int getRows() { return rows; }
+    @Override public long getVersion() { return version; }
+    @Override public int getOpenMask(int cell) { return cellByte(cell) & 0x0F; }
+    @Override public int getTerrainCode(int cell) { return (cellByte(cell) >> 4) & 0x0F; }
+
+    @Override
+    public CorridorGraph getCorridorGraph() {
+        CorridorGraph graph = corridorGraph;
+        if (graph == null) {
+            synchronized (this) {
+                graph = corridorGraph;
+                if (graph == null) corridorGraph = graph = CorridorGraph.build(this);
+            }
+        }
+        return graph;
+    }
+
+    @Override
+    public HpaGraph getHpaGraph() {
+        HpaGraph graph = hpaGraph;
+        if (graph == null) {
+            synchronized (this) {
+                graph = hpaGraph;
+                if (graph == null) hpaGraph = graph = HpaGraph.build(this, HpaGraph.DEFAULT_CLUSTER_SIZE);
+            }
+        }
+        return graph;
+    }
+
+    @Override
+    public Landmarks peekLandmarks() { return landmarks; }
+
+    @Override
+    public Landmarks getLandmarks() {
+        Landmarks lm = landmarks;
+        if (lm == null) {
+            synchronized (this) {
+                lm = landmarks;
+                if (lm == null) landmarks = lm = Landmarks.build(this, Landmarks.DEFAULT_COUNT);
+            }
+        }
+        return lm;
+    }
+
+    @Override
+    public synchronized MazeTree getTree() {
+        if (!treeChecked) {
+            tree = MazeTree.build(this);
+            treeChecked = true;
+        }
+        return tree;
+    }
+
+    // Mapping tetap valid sampai buffer di-GC; channel tidak dibutuhkan lagi setelah map
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
\ No newline at end of file
@@ -7,11 +7,18 @@ import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import javax.imageio.ImageIO;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class MazeApp extends JFrame {
     private MazeGraphModel mazeModel;
@@ -39,9 +46,27 @@ public class MazeApp extends JFrame {
     private JComboBox<String> cbTerrainDensity;
     private JComboBox<String> cbWallDensity;
     private JComboBox<String> cbGenAlgo; // DROPDOWN BARU UNTUK PRIMS/KRUSKAL
+    private JComboBox<String> cbReplaySpeed; // Kecepatan replay animasi (terpisah dari solver)
+    private JComboBox<String> cbAraBudget;   // Budget waktu ARA* (solver anytime)
+    private JComboBox<String> cbEditMode; // Klik di maze: pilih start/goal, ubah terrain, atau toggle dinding
 
     private Map<String, AlgoResult> runHistory = new LinkedHashMap<>();
 
+    // Query start/goal bebas: klik kiri = start, klik kanan = goal
+    private int startCell;
+    private int goalCell;
+    private final PathCache pathCache = new PathCache(256);
+
+    // Planner LPA* dari solve terakhir, diperbaiki inkremental setiap kali maze diedit
+    private LpaStarPlanner planner;
+
+    // Solve yang sedang berjalan; tombol Stop membatalkan search maupun replay-nya
+    private volatile CancellationToken activeSearch;
+    private JButton btnStop;
+
+    // Pool untuk Compare All: satu virtual thread per solver
+    private final ExecutorService solverPool = Executors.newVirtualThreadPerTaskExecutor();
+
     // Colors Theme
     private final Color JUNGLE_BG_PANEL = new Color(30, 50, 30);
     private final Color JUNGLE_WOOD_DARK = new Color(90, 60, 30);
@@ -65,6 +90,30 @@ public class MazeApp extends JFrame {
         // Default pakai Prim's
         mazeModel = new MazeGraphModel(30, 20, 0.3, 0.9, "Prim's");
         mazePanel = new MazePanel(mazeModel);
+        goalCell = mazeModel.getCellCount() - 1;
+        mazePanel.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) { // Klik tanpa drag (drag = geser viewport)
+                if (isAnimating) return;
+                int cell = mazePanel.cellAt(e.getX(), e.getY());
+                if (cell == -1) return;
+                String editMode = (String) cbEditMode.getSelectedItem();
+                if (editMode.contains("Terrain")) {
+                    editTerrain(cell, SwingUtilities.isRightMouseButton(e));
+                    return;
+                }
+                if (editMode.contains("Walls")) {
+                    editWall(cell, mazePanel.nearestSide(e.getX(), e.getY()));
+                    return;
+                }
+                planner = null; // Start/goal baru -> planner baru saat solve berikutnya
+                if (SwingUtilities.isRightMouseButton(e)) goalCell = cell;
+                else startCell = cell;
+                mazePanel.setEndpoints(startCell, goalCell);
+                mazePanel.clearExplored();
+                mazePanel.clearAllPaths();
+            }
+        });
 
         // --- 2. CENTER PANEL ---
         JPanel centerWrapper = new JPanel(new BorderLayout()) {
@@ -119,7 +168,7 @@ public class MazeApp extends JFrame {
         cbMapSize.setSelectedIndex(1);
 
         JLabel lblGenAlgo = createLabel("Generation Algo:"); // LABEL BARU
-        cbGenAlgo = createComboBox(new String[]{"Prim's Algorithm", "Kruskal's Algorithm"}); // PILIHAN BARU
+        cbGenAlgo = createComboBox(new String[]{"Prim's Algorithm", "Kruskal's Algorithm", "Eller's Algorithm", "Parallel Tiled (Multi-core)"}); // PILIHAN BARU
 
         JLabel lblTerrain = createLabel("Terrain Obstacles:");
         cbTerrainDensity = createComboBox(new String[]{"Clean", "Light", "Heavy"});
@@ -129,6 +178,17 @@ public class MazeApp extends JFrame {
         cbWallDensity = createComboBox(new String[]{"High", "Medium", "Low"});
         cbWallDensity.setSelectedIndex(0);
 
+        JLabel lblReplay = createLabel("Replay Speed:");
+        cbReplaySpeed = createComboBox(new String[]{"Instant", "Fast", "Normal", "Slow"});
+        cbReplaySpeed.setSelectedIndex(2);
+
+        JLabel lblBudget = createLabel("ARA* Time Budget:");
+        cbAraBudget = createComboBox(new String[]{"50 ms", "200 ms", "1 s", "5 s", "Unlimited"});
+        cbAraBudget.setSelectedIndex(1); // Sama dengan AraStarSearch.DEFAULT_BUDGET_NANOS
+
+        JLabel lblEdit = createLabel("Click Action:");
+        cbEditMode = createComboBox(new String[]{"Pick Start/Goal", "Edit Terrain", "Toggle Walls"});
+
         // Add to Panel
         panel.add(lblTitle);
         panel.add(Box.createVerticalStrut(20));
@@ -143,6 +203,27 @@ public class MazeApp extends JFrame {
         panel.add(Box.createVerticalStrut(15));
 
         panel.add(lblWall); panel.add(Box.createVerticalStrut(5)); panel.add(cbWallDensity);
+        panel.add(Box.createVerticalStrut(15));
+
+        panel.add(lblReplay); panel.add(Box.createVerticalStrut(5)); panel.add(cbReplaySpeed);
+        panel.add(Box.createVerticalStrut(15));
+
+        panel.add(lblBudget); panel.add(Box.createVerticalStrut(5)); panel.add(cbAraBudget);
+        panel.add(Box.createVerticalStrut(15));
+
+        panel.add(lblEdit); panel.add(Box.createVerticalStrut(5)); panel.add(cbEditMode);
+        panel.add(Box.createVerticalStrut(20));
+
+        // Simpan / buka maze dalam format biner MazeFile
+        JButton btnSave = createSolidButton("Save Map", JUNGLE_PARCHMENT, JUNGLE_TEXT_DARK);
+        JButton btnLoad = createSolidButton("Load Map", JUNGLE_PARCHMENT, JUNGLE_TEXT_DARK);
+        for (JButton btn : new JButton[]{btnSave, btnLoad}) {
+            btn.setMaximumSize(new Dimension(Integer.MAX_VALUE, 32));
+            btn.setAlignmentX(Component.LEFT_ALIGNMENT);
+        }
+        btnSave.addActionListener(e -> { if (!isAnimating) handleSaveMap(); });
+        btnLoad.addActionListener(e -> { if (!isAnimating) handleLoadMap(); });
+        panel.add(btnSave); panel.add(Box.createVerticalStrut(8)); panel.add(btnLoad);
 
         panel.add(Box.createVerticalGlue());
 
@@ -231,28 +312,36 @@ public class MazeApp extends JFrame {
         statsPanel.add(statsCenter, BorderLayout.CENTER); statsPanel.add(summaryContainer, BorderLayout.SOUTH);
 
         // CONTROLS
-        JPanel controlsPanel = new JPanel(new GridLayout(6, 1, 0, 8));
+        JPanel controlsPanel = new JPanel(new GridLayout(7, 1, 0, 8));
         controlsPanel.setBackground(JUNGLE_BG_PANEL);
         controlsPanel.setBorder(new CompoundBorder(new MatteBorder(2, 0, 0, 0, JUNGLE_WOOD_DARK), new EmptyBorder(15, 0, 0, 0)));
 
         JButton btnGenerate = createSolidButton("Generate Map", JUNGLE_PARCHMENT, JUNGLE_TEXT_DARK);
         JLabel lblAlgo = new JLabel("Select Strategy:");
         lblAlgo.setForeground(Color.WHITE); lblAlgo.setHorizontalAlignment(SwingConstants.CENTER);
-        algorithmSelector = createComboBox(new String[]{"BFS", "DFS", "Dijkstra", "A* (A-Star)"});
+        String[] solverNames = new String[SolverType.values().length];
+        for (int i = 0; i < solverNames.length; i++) solverNames[i] = SolverType.values()[i].getDisplayName();
+        algorithmSelector = createComboBox(solverNames);
         cbCompareMode = new JCheckBox("Accumulate Paths (Compare)");
         cbCompareMode.setBackground(JUNGLE_BG_PANEL); cbCompareMode.setForeground(JUNGLE_PARCHMENT); cbCompareMode.setFocusPainted(false); cbCompareMode.setHorizontalAlignment(SwingConstants.CENTER);
         JButton btnSolve = createSolidButton("Start Mission", JUNGLE_BTN_GREEN, Color.WHITE);
+        btnStop = createSolidButton("Stop", new Color(178, 34, 34), Color.WHITE);
+        btnStop.setEnabled(false);
+        JButton btnCompareAll = createSolidButton("Compare All (Parallel)", JUNGLE_WOOD_DARK, JUNGLE_PARCHMENT);
 
-        controlsPanel.add(btnGenerate); controlsPanel.add(lblAlgo); controlsPanel.add(algorithmSelector); controlsPanel.add(cbCompareMode); controlsPanel.add(Box.createVerticalStrut(2)); controlsPanel.add(btnSolve);
+        controlsPanel.add(btnGenerate); controlsPanel.add(lblAlgo); controlsPanel.add(algorithmSelector); controlsPanel.add(cbCompareMode); controlsPanel.add(btnSolve); controlsPanel.add(btnStop); controlsPanel.add(btnCompareAll);
 
         btnGenerate.addActionListener(e -> { if (!isAnimating) handleGenerateMap(); });
         btnSolve.addActionListener(e -> {
             if (isAnimating) return;
             String selected = (String) algorithmSelector.getSelectedItem();
-            String code = "BFS";
-            if (selected.equals("DFS")) code = "DFS"; else if (selected.equals("Dijkstra")) code = "DIJKSTRA"; else if (selected.contains("A*")) code = "ASTAR";
-            solveMaze(code, selected);
+            solveMaze(SolverType.fromDisplayName(selected));
+        });
+        btnStop.addActionListener(e -> {
+            CancellationToken token = activeSearch;
+            if (token != null) token.cancel();
         });
+        btnCompareAll.addActionListener(e -> { if (!isAnimating) compareAllStrategies(); });
 
         mainPanel.add(statsPanel, BorderLayout.NORTH);
         mainPanel.add(controlsPanel, BorderLayout.SOUTH);
@@ -279,18 +368,57 @@ public class MazeApp extends JFrame {
 
         // AMBIL ALGORITMA GENERASI
         String genAlgoSel = (String) cbGenAlgo.getSelectedItem();
-        String genCode = genAlgoSel.contains("Kruskal") ? "Kruskal's" : "Prim's";
+        String genCode = genAlgoSel.contains("Kruskal") ? "Kruskal's" : genAlgoSel.contains("Eller") ? "Eller's" : genAlgoSel.contains("Parallel") ? "Parallel Tiled" : "Prim's";
 
-        mazeModel = new MazeGraphModel(cols, rows, terrainProb, wallDens, genCode);
+        installModel(new MazeGraphModel(cols, rows, terrainProb, wallDens, genCode));
+        lblEfficiencySummary.setText("<html><center>Map Generated!<br>Algo: " + genCode + "<br>Walls: " + wallSel + "</center></html>");
+    }
+
+    private void installModel(MazeGraphModel model) {
+        mazeModel = model;
         mazePanel.setMazeModel(mazeModel);
+        startCell = 0;
+        goalCell = mazeModel.getCellCount() - 1;
+        planner = null;
+        // Distance field ALT disiapkan di background setelah generate/load (A* ALT tetap bisa membangunnya sendiri)
+        CompletableFuture.runAsync(model::getLandmarks, solverPool).exceptionally(e -> {
+            System.err.println("Info: distance field ALT gagal dibangun: " + e);
+            return null;
+        });
+        pathCache.clear(); // Versi lama tidak akan cocok lagi; bebaskan memorinya sekarang
 
         runHistory.clear();
         statsDropdown.removeAllItems();
         clearInfoDisplay();
-        lblEfficiencySummary.setText("<html><center>Map Generated!<br>Algo: " + genCode + "<br>Walls: " + wallSel + "</center></html>");
         rankingModel.setRowCount(0);
     }
 
+    private void handleSaveMap() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("maze.maze"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        Path path = chooser.getSelectedFile().toPath();
+        try {
+            MazeFile.write(mazeModel, path);
+            lblEfficiencySummary.setText("<html><center>Map Saved!<br>" + path.getFileName() + "</center></html>");
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, "Gagal menyimpan map: " + e.getMessage(), "Save Map", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    // File di-map lalu disalin ke model di memori supaya tetap bisa diedit di UI
+    private void handleLoadMap() {
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        Path path = chooser.getSelectedFile().toPath();
+        try (MappedMaze mapped = MappedMaze.open(path)) {
+            installModel(MazeGraphModel.copyOf(mapped));
+            lblEfficiencySummary.setText("<html><center>Map Loaded!<br>" + path.getFileName() + "<br>" + mapped.getCols() + " x " + mapped.getRows() + "</center></html>");
+        } catch (IOException | IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, "Gagal membuka map: " + e.getMessage(), "Load Map", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     // --- HELPER METHODS (CreateLabel, ComboBox, etc.) TETAP SAMA ---
     // (Agar kode tidak terlalu panjang, saya asumsikan helper methods
     // createLabel, createComboBox, createSolidButton, createDetailCard,
@@ -347,6 +475,7 @@ public class MazeApp extends JFrame {
         updateCard(lblCost, "💎 Total Cost", "-");
         updateCard(lblPathLength, "📏 Path Length", "-");
         updateCard(lblVisited, "👣 Nodes Visited", "-");
+        lblVisited.setToolTipText(null);
     }
 
     private void updateCard(JLabel label, String title, String value) {
@@ -354,12 +483,17 @@ public class MazeApp extends JFrame {
     }
 
     private void showAlgoDetails(AlgoResult res) {
-        updateCard(lblTime, "⏳ Execution Time", String.format("%.2f ms", res.getDurationMs()));
-        String costVal = (res.algorithmName.equals("BFS") || res.algorithmName.equals("DFS")) ? "-" : ((res.totalCost >= Integer.MAX_VALUE/2) ? "Fail" : String.valueOf(res.totalCost));
+        updateCard(lblTime, "⏳ Execution Time", String.format("%.3f ms (replay %.0f ms)", res.getDurationMs(), res.getReplayMs()));
+        String failVal = res.budgetExhausted ? "Budget exhausted" : "Fail"; // Budget habis != tidak ada path
+        String costVal = (res.algorithmName.equals("BFS") || res.algorithmName.equals("DFS")) ? "-" : ((res.totalCost >= Integer.MAX_VALUE/2) ? failVal : String.valueOf(res.totalCost));
+        if (!Double.isNaN(res.suboptimalityBound) && res.totalCost < Integer.MAX_VALUE/2) {
+            costVal += String.format(" (≤ %.2f× opt)", res.suboptimalityBound);
+        }
         updateCard(lblCost, "💎 Total Cost", costVal);
         String stepsVal = (res.pathLength == 0 && res.totalCost >= Integer.MAX_VALUE/2) ? "-" : res.pathLength + " Steps";
         updateCard(lblPathLength, "📏 Path Length", stepsVal);
         updateCard(lblVisited, "👣 Nodes Visited", String.valueOf(res.visitedCount));
+        lblVisited.setToolTipText(res.stats == null ? null : res.stats.toString());
     }
 
     private void updateEfficiencySummary() {
@@ -385,59 +519,194 @@ public class MazeApp extends JFrame {
         }
     }
 
-    private void solveMaze(String algorithmCode, String displayName) {
-        isAnimating = true; mazeModel.resetVisited();
+    private void solveMaze(SolverType solverType) {
+        isAnimating = true;
+        String displayName = solverType.getDisplayName();
         boolean compareMode = cbCompareMode.isSelected();
         mazePanel.clearExplored();
         if (!compareMode) mazePanel.clearAllPaths();
         algorithmSelector.setEnabled(false);
 
-        Color pathColor;
-        switch (algorithmCode) {
-            case "BFS": pathColor = new Color(0, 191, 255, 170); break;
-            case "DFS": pathColor = new Color(255, 20, 147, 170); break;
-            case "DIJKSTRA": pathColor = new Color(255, 140, 0, 170); break;
-            case "ASTAR": pathColor = new Color(220, 20, 60, 170); break;
-            default: pathColor = new Color(255, 0, 0, 170);
-        }
+        Color pathColor = solverType.getPathColor();
+        MazeGraphModel model = mazeModel;
 
-        new Thread(() -> {
-            Node start = mazeModel.getGrid()[0][0];
-            Node end = mazeModel.getGrid()[mazeModel.getCols() - 1][mazeModel.getRows() - 1];
-            boolean found = false;
-            long startTime = System.nanoTime();
-            int visitedCount = 0; int finalCost = Integer.MAX_VALUE; int finalSteps = 0;
-
-            if (algorithmCode.equals("BFS")) found = runBFS(start, end);
-            else if (algorithmCode.equals("DFS")) found = runDFS(start, end);
-            else if (algorithmCode.equals("DIJKSTRA")) found = (runDijkstra(start, end) != -1);
-            else if (algorithmCode.equals("ASTAR")) found = (runAStar(start, end) != -1);
+        int replayDelay = getReplayDelayMillis();
+        long budgetNanos = getAraBudgetNanos();
+        int start = startCell;
+        int end = goalCell;
+        CancellationToken token = new CancellationToken();
+        activeSearch = token;
+        btnStop.setEnabled(true);
 
-            long endTime = System.nanoTime();
+        new Thread(() -> {
+            // FASE 1: Solver berjalan penuh tanpa animasi, hanya merekam trace ekspansi.
+            // Route yang sama di versi maze yang sama datang dari cache (trace kosong, tanpa replay)
+            ExpansionTrace trace = new ExpansionTrace();
+            SearchResult result;
+            try {
+                if (solverType == SolverType.LPA_STAR) {
+                    // Simpan planner-nya: edit berikutnya cukup diperbaiki, tidak dihitung ulang
+                    LpaStarPlanner lpa = new LpaStarPlanner(model, start, end);
+                    result = lpa.replan(token.guard(trace));
+                    SwingUtilities.invokeLater(() -> planner = lpa);
+                } else {
+                    result = pathCache.solve(model, solverType, start, end, trace, token, budgetNanos);
+                }
+            } catch (CancellationException e) {
+                SwingUtilities.invokeLater(() -> {
+                    lblEfficiencySummary.setText("<html><center>Search stopped:<br>" + displayName + "</center></html>");
+                    finishSolve(token);
+                });
+                return;
+            }
+            long replayTime = 0;
+            if (!result.isFromCache()) {
+                // FASE 2: Replay trace ke MazePanel dengan kecepatan pilihan user (Stop = lewati sisa replay)
+                long replayStart = System.nanoTime();
+                for (int cell : trace.toArray()) {
+                    if (token.isCancelled()) break;
+                    mazePanel.addExploredCell(cell);
+                    if (replayDelay > 0) sleepDelay(replayDelay);
+                }
+                replayTime = System.nanoTime() - replayStart;
+            }
 
-            if (found) {
+            int finalSteps = 0;
+            if (result.isFound()) {
                 List<Node> path = new ArrayList<>();
-                Node current = end;
-                int calcCost = 0;
-                while (current != null) { path.add(current); calcCost += current.getCost(); current = current.parent; }
-                finalCost = calcCost; finalSteps = path.size();
+                for (int cell : result.getPath()) path.add(model.getNode(cell));
+                finalSteps = path.size();
                 mazePanel.addFinalPath(displayName, path, pathColor);
             }
 
-            for(int x=0; x<mazeModel.getCols(); x++) for(int y=0; y<mazeModel.getRows(); y++) if(mazeModel.getGrid()[x][y].visited) visitedCount++;
+            AlgoResult res = new AlgoResult(displayName, result.getComputeNano(), replayTime, finalSteps, result.getVisitedCount(), result.getTotalCost(), result.getStats(), result.getSuboptimalityBound());
+            res.budgetExhausted = result.isBudgetExhausted();
+            SwingUtilities.invokeLater(() -> {
+                recordResult(res);
+                finishSolve(token);
+            });
+        }).start();
+    }
+
+    // Kembalikan kontrol setelah solve selesai atau dihentikan (EDT)
+    private void finishSolve(CancellationToken token) {
+        if (activeSearch == token) activeSearch = null;
+        btnStop.setEnabled(false);
+        algorithmSelector.setEnabled(true);
+        isAnimating = false;
+    }
+
+    // --- EDIT MODE ---
+    // Klik kiri: terrain berikutnya (Terrace -> Grass -> Mud -> Water), klik kanan: sebaliknya
+    private void editTerrain(int cell, boolean backwards) {
+        TerrainType[] types = TerrainType.values();
+        int next = (mazeModel.getTerrain(cell).ordinal() + (backwards ? types.length - 1 : 1)) % types.length;
+        mazeModel.setTerrain(cell, types[next]);
+        if (planner != null) planner.cellChanged(cell);
+        afterEdit();
+    }
+
+    private void editWall(int cell, int dir) {
+        int other = mazeModel.neighbor(cell, dir);
+        if (other == -1) return; // Dinding tepi grid tidak bisa dibuka
+        mazeModel.setWall(cell, dir, !mazeModel.isOpen(cell, MazeGraphModel.DIR_BITS[dir]));
+        if (planner != null) planner.wallChanged(cell, other);
+        afterEdit();
+    }
+
+    // Path lama tidak berlaku lagi; jika ada planner LPA* aktif, perbaiki path-nya di tempat.
+    // Replan berjalan di solverPool agar EDT tidak membeku di maze besar. Hasil yang versinya
+    // sudah dilewati edit berikutnya dibuang: replan milik edit terakhir yang ditampilkan.
+    private void afterEdit() {
+        mazePanel.refreshStaticLayers();
+        mazePanel.clearExplored();
+        mazePanel.clearAllPaths();
+        LpaStarPlanner lpa = planner;
+        MazeGraphModel model = mazeModel;
+        if (lpa == null || lpa.getMaze() != model) return;
+
+        long version = model.getVersion();
+        ExpansionTrace trace = new ExpansionTrace();
+        CompletableFuture.supplyAsync(() -> model.getVersion() == version ? lpa.replan(trace) : null, solverPool)
+                .whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error != null) {
+                        System.err.println("Info: replan LPA* gagal: " + error);
+                        return;
+                    }
+                    if (result == null || planner != lpa || model.getVersion() != version) return; // Basi
+                    for (int cell : trace.toArray()) mazePanel.addExploredCell(cell);
+                    String displayName = SolverType.LPA_STAR.getDisplayName();
+                    int steps = 0;
+                    if (result.isFound()) {
+                        List<Node> path = new ArrayList<>();
+                        for (int cell : result.getPath()) path.add(model.getNode(cell));
+                        steps = path.size();
+                        mazePanel.addFinalPath(displayName, path, SolverType.LPA_STAR.getPathColor());
+                    }
+                    recordResult(new AlgoResult(displayName, result.getComputeNano(), 0, steps, result.getVisitedCount(), result.getTotalCost(), result.getStats(), result.getSuboptimalityBound()));
+                }));
+    }
 
-            AlgoResult res = new AlgoResult(displayName, endTime - startTime, finalSteps, visitedCount, found ? finalCost : Integer.MAX_VALUE);
+    // Jalankan semua strategi bersamaan di atas snapshot maze yang sama (tanpa replay animasi)
+    private void compareAllStrategies() {
+        isAnimating = true;
+        algorithmSelector.setEnabled(false);
+        mazePanel.clearExplored();
+        mazePanel.clearAllPaths();
+
+        // Model sendiri (bukan copyOf) agar cache path & landmark tetap terpakai. Aman dibaca paralel
+        // hanya karena edit terrain/dinding, generate & load ditolak selama isAnimating = true.
+        MazeGraphModel model = mazeModel;
+        int start = startCell;
+        int end = goalCell;
+        long budgetNanos = getAraBudgetNanos();
+        long compareStart = System.nanoTime();
+
+        SolverType[] types = SolverType.values();
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[types.length];
+        for (int i = 0; i < types.length; i++) {
+            SolverType type = types[i];
+            tasks[i] = CompletableFuture
+                    .supplyAsync(() -> pathCache.solve(model, type, start, end, null, null, budgetNanos), solverPool)
+                    .thenAccept(result -> {
+                        // Isi path layer & tabel ranking begitu satu solver selesai
+                        int steps = 0;
+                        if (result.isFound()) {
+                            List<Node> path = new ArrayList<>();
+                            for (int cell : result.getPath()) path.add(model.getNode(cell));
+                            steps = path.size();
+                            mazePanel.addFinalPath(type.getDisplayName(), path, type.getPathColor());
+                        }
+                        AlgoResult res = new AlgoResult(type.getDisplayName(), result.getComputeNano(), 0, steps, result.getVisitedCount(), result.getTotalCost(), result.getStats(), result.getSuboptimalityBound());
+                        res.budgetExhausted = result.isBudgetExhausted();
+                        SwingUtilities.invokeLater(() -> recordResult(res));
+                    });
+        }
+
+        CompletableFuture.allOf(tasks).whenComplete((ignored, error) -> {
+            long compareTime = System.nanoTime() - compareStart;
             SwingUtilities.invokeLater(() -> {
-                runHistory.put(displayName, res);
-                boolean exists = false;
-                for (int i = 0; i < statsDropdown.getItemCount(); i++) if (statsDropdown.getItemAt(i).equals(displayName)) { exists = true; break; }
-                if (!exists) statsDropdown.addItem(displayName);
-                statsDropdown.setSelectedItem(displayName);
-                updateEfficiencySummary();
+                if (error != null) {
+                    lblEfficiencySummary.setText("<html><center>Compare failed:<br>" + error.getMessage() + "</center></html>");
+                } else {
+                    String summary = lblEfficiencySummary.getText().replace("</center></html>", "");
+                    lblEfficiencySummary.setText(summary + String.format("<br>Parallel compare: %.2f ms</center></html>", compareTime / 1_000_000.0));
+                }
                 algorithmSelector.setEnabled(true);
                 isAnimating = false;
             });
-        }).start();
+        });
+    }
+
+    // Simpan hasil ke history, dropdown & tabel ranking (EDT)
+    private void recordResult(AlgoResult res) {
+        String displayName = res.algorithmName;
+        runHistory.put(displayName, res);
+        boolean exists = false;
+        for (int i = 0; i < statsDropdown.getItemCount(); i++) if (statsDropdown.getItemAt(i).equals(displayName)) { exists = true; break; }
+        if (!exists) statsDropdown.addItem(displayName);
+        statsDropdown.setSelectedItem(displayName);
+        updateEfficiencySummary();
     }
 
     private JLabel createDetailCard(String title) {
@@ -445,13 +714,24 @@ public class MazeApp extends JFrame {
         lbl.setOpaque(true); lbl.setBackground(JUNGLE_PARCHMENT); lbl.setForeground(JUNGLE_TEXT_DARK); lbl.setFont(new Font("Georgia", Font.PLAIN, 12)); lbl.setBorder(new LineBorder(JUNGLE_WOOD_DARK, 1, true)); lbl.setPreferredSize(new Dimension(0, 45)); return lbl;
     }
 
-    private void sleepDelay(int millis) { try { Thread.sleep(millis); } catch (InterruptedException e) {} }
+    private int getReplayDelayMillis() {
+        String speedSel = (String) cbReplaySpeed.getSelectedItem();
+        if (speedSel.contains("Instant")) return 0;
+        if (speedSel.contains("Fast")) return 1;
+        if (speedSel.contains("Slow")) return 20;
+        return 5; // Normal (sama dengan delay lama)
+    }
+
+    private long getAraBudgetNanos() {
+        String budgetSel = (String) cbAraBudget.getSelectedItem();
+        if (budgetSel.contains("Unlimited")) return Long.MAX_VALUE;
+        if (budgetSel.equals("50 ms")) return 50_000_000L;
+        if (budgetSel.equals("1 s")) return 1_000_000_000L;
+        if (budgetSel.equals("5 s")) return 5_000_000_000L;
+        return AraStarSearch.DEFAULT_BUDGET_NANOS; // 200 ms
+    }
 
-    // ALGORITMA RUNNERS
-    private boolean runBFS(Node start, Node end) { Queue<Node> queue = new LinkedList<>(); queue.add(start); start.visited = true; while (!queue.isEmpty()) { Node current = queue.poll(); mazePanel.addExploredNode(current); sleepDelay(5); if (current == end) return true; for (Node neighbor : current.neighbors) { if (!neighbor.visited) { neighbor.visited = true; neighbor.parent = current; queue.add(neighbor); }} } return false; }
-    private boolean runDFS(Node start, Node end) { Stack<Node> stack = new Stack<>(); stack.push(start); start.visited = true; while (!stack.isEmpty()) { Node current = stack.pop(); mazePanel.addExploredNode(current); sleepDelay(5); if (current == end) return true; for (Node neighbor : current.neighbors) { if (!neighbor.visited) { neighbor.visited = true; neighbor.parent = current; stack.push(neighbor); }} } return false; }
-    private int runDijkstra(Node start, Node end) { PriorityQueue<PathState> pq = new PriorityQueue<>(); Map<Node, Integer> dist = new HashMap<>(); dist.put(start, 0); pq.add(new PathState(start, 0)); while (!pq.isEmpty()) { PathState current = pq.poll(); Node u = current.node; if (current.cost > dist.getOrDefault(u, Integer.MAX_VALUE)) continue; u.visited = true; mazePanel.addExploredNode(u); sleepDelay(5); if (u == end) return current.cost; for (Node v : u.neighbors) { int newDist = current.cost + v.getCost(); if (newDist < dist.getOrDefault(v, Integer.MAX_VALUE)) { dist.put(v, newDist); v.parent = u; pq.add(new PathState(v, newDist)); } } } return -1; }
-    private int runAStar(Node start, Node end) { PriorityQueue<AStarState> pq = new PriorityQueue<>(); Map<Node, Integer> gScore = new HashMap<>(); gScore.put(start, 0); pq.add(new AStarState(start, 0, Math.abs(start.x-end.x) + Math.abs(start.y-end.y))); while (!pq.isEmpty()) { AStarState current = pq.poll(); Node u = current.node; if (current.gCost > gScore.getOrDefault(u, Integer.MAX_VALUE)) continue; u.visited = true; mazePanel.addExploredNode(u); sleepDelay(5); if (u == end) return current.gCost; for (Node v : u.neighbors) { int newG = current.gCost + v.getCost(); if (newG < gScore.getOrDefault(v, Integer.MAX_VALUE)) { gScore.put(v, newG); v.parent = u; pq.add(new AStarState(v, newG, Math.abs(v.x-end.x) + Math.abs(v.y-end.y))); } } } return -1; }
+    private void sleepDelay(int millis) { try { Thread.sleep(millis); } catch (InterruptedException e) {} }
 
     public static void main(String[] args) { SwingUtilities.invokeLater(() -> new MazeApp().setVisible(true)); }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Mode batch headless: generate maze ber-seed dan jalankan daftar solver di worker pool,
+// tiap (maze, solver) langsung ditulis sebagai satu baris CSV atau JSON Lines.
+// Baris ditulis sesuai urutan selesai; kolom seed membuat tiap baris bisa direproduksi.
+// Struktur turunan (landmark, graph koridor, HPA*, tree) dibangun sebelum solver dijalankan:
+// solve_ms hanya waktu query, waktu build dilaporkan terpisah di build_ms.
+//
+// Pemakaian: java MazeBatch [--size=45x30] [--terrain=0.2] [--walls=1.0] [--gen=prim|kruskal|eller|tiled]
+//                           [--seeds=1..1000] [--solvers=all|BFS,ASTAR,...] [--threads=N]
+//                           [--format=csv|json] [--out=file] [--budget=200|unlimited]  (budget ARA* dalam ms)
+public class MazeBatch {
+    private static final String CSV_HEADER = "seed,generator,cols,rows,terrain,walls,gen_ms,solver,found,cost,"
+            + "path_length,visited,build_ms,solve_ms,bound,budget_exhausted,pushes,pops,stale_skips,relaxations,peak_frontier,alloc_bytes";
+
+    private final int cols, rows;
+    private final double terrainProb, wallDensity;
+    private final String genAlgo;
+    private final List<SolverType> solvers;
+    private final long budgetNanos;
+    private final boolean json;
+    private final Writer out;
+
+    private MazeBatch(int cols, int rows, double terrainProb, double wallDensity, String genAlgo,
+                      List<SolverType> solvers, long budgetNanos, boolean json, Writer out) {
+        this.cols = cols;
+        this.rows = rows;
+        this.terrainProb = terrainProb;
+        this.wallDensity = wallDensity;
+        this.genAlgo = genAlgo;
+        this.solvers = solvers;
+        this.budgetNanos = budgetNanos;
+        this.json = json;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int cols = 45, rows = 30;
+        double terrain = 0.2, walls = 1.0;
+        String gen = "Prim's";
+        long seedFrom = 1, seedTo = 100;
+        List<SolverType> solvers = parseSolvers("all");
+        int threads = Runtime.getRuntime().availableProcessors();
+        long budgetNanos = AraStarSearch.DEFAULT_BUDGET_NANOS;
+        boolean json = false;
+        String outFile = null;
+
+        for (String arg : args) {
+            if (arg.startsWith("--size=")) {
+                String[] dims = arg.substring(7).toLowerCase(Locale.ROOT).split("x");
+                cols = Integer.parseInt(dims[0]);
+                rows = Integer.parseInt(dims[1]);
+            } else if (arg.startsWith("--terrain=")) terrain = Double.parseDouble(arg.substring(10));
+            else if (arg.startsWith("--walls=")) walls = Double.parseDouble(arg.substring(8));
+            else if (arg.startsWith("--gen=")) gen = parseGenerator(arg.substring(6));
+            else if (arg.startsWith("--seeds=")) {
+                String spec = arg.substring(8);
+                int dots = spec.indexOf("..");
+                seedFrom = Long.parseLong(dots < 0 ? spec : spec.substring(0, dots));
+                seedTo = dots < 0 ? seedFrom : Long.parseLong(spec.substring(dots + 2));
+            } else if (arg.startsWith("--solvers=")) solvers = parseSolvers(arg.substring(10));
+            else if (arg.startsWith("--threads=")) threads = Integer.parseInt(arg.substring(10));
+            else if (arg.startsWith("--budget=")) budgetNanos = parseBudget(arg.substring(9));
+            else if (arg.startsWith("--format=")) json = parseFormat(arg.substring(9));
+            else if (arg.startsWith("--out=")) outFile = arg.substring(6);
+            else throw new IllegalArgumentException("Unknown option: " + arg);
+        }
+        if (seedTo < seedFrom) throw new IllegalArgumentException("Empty seed range: " + seedFrom + ".." + seedTo);
+
+        Writer out = outFile == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(Paths.get(outFile), StandardCharsets.UTF_8);
+        try (out) {
+            new MazeBatch(cols, rows, terrain, walls, gen, solvers, budgetNanos, json, out).run(seedFrom, seedTo, threads);
+        }
+    }
+
+    // Satu task per seed: generate sekali lalu semua solver (workspace solver per thread worker)
+    private void run(long seedFrom, long seedTo, int threads) throws IOException, InterruptedException {
+        if (!json) out.write(CSV_HEADER + "\n");
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+        List<Future<?>> tasks = new ArrayList<>();
+        try {
+            for (long seed = seedFrom; seed <= seedTo; seed++) {
+                long s = seed;
+                tasks.add(pool.submit(() -> runSeed(s)));
+            }
+            for (Future<?> task : tasks) task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IllegalStateException(cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void runSeed(long seed) {
+        long genStart = System.nanoTime();
+        MazeGraphModel maze = new MazeGraphModel(cols, rows, terrainProb, wallDensity, genAlgo, seed);
+        double genMs = (System.nanoTime() - genStart) / 1_000_000.0;
+        int goal = maze.getCellCount() - 1;
+
+        // Build dulu untuk semua solver, jadi input tiap solver tidak bergantung urutan --solvers
+        // (ARA* selalu mendapat landmark, walau ALT_ASTAR tidak diminta atau dijalankan setelahnya)
+        EnumMap<SolverType, Double> buildMs = new EnumMap<>(SolverType.class);
+        for (SolverType type : solvers) {
+            if (buildMs.containsKey(type)) continue;
+            SolverType shared = type == SolverType.ARA_STAR ? SolverType.ALT_ASTAR
+                    : type == SolverType.ALT_ASTAR ? SolverType.ARA_STAR : null;
+            Double sharedMs = shared != null ? buildMs.get(shared) : null; // Landmark yang sama
+            buildMs.put(type, sharedMs != null ? sharedMs : buildDerived(maze, type));
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (SolverType type : solvers) {
+            SearchResult result = MazeSolver.solve(maze, type, 0, goal, null, null, budgetNanos);
+            appendRow(lines, seed, genMs, type, buildMs.get(type), result);
+        }
+        // Satu write per maze supaya baris dari worker lain tidak saling menyela
+        synchronized (out) {
+            try {
+                out.write(lines.toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // Bangun struktur turunan yang dipakai solver (lazy di MazeGrid); ms, 0 jika tidak ada
+    private static double buildDerived(MazeGrid maze, SolverType type) {
+        long start = System.nanoTime();
+        switch (type) {
+            case ALT_ASTAR: case ARA_STAR: maze.getLandmarks(); break;
+            case CORRIDOR_DIJKSTRA: maze.getCorridorGraph(); break;
+            case HPA_STAR: maze.getHpaGraph(); break;
+            case TREE_LCA: maze.getTree(); break;
+            default: return 0;
+        }
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private void appendRow(StringBuilder sb, long seed, double genMs, SolverType type, double buildMs, SearchResult r) {
+        SearchStats st = r.getStats() != null ? r.getStats() : new SearchStats();
+        int cost = r.isFound() ? r.getTotalCost() : -1;
+        double solveMs = r.getComputeNano() / 1_000_000.0;
+        double bound = r.getSuboptimalityBound(); // Hanya solver anytime; kosong / null untuk yang lain
+        if (json) {
+            sb.append(String.format(Locale.ROOT,
+                    "{\"seed\":%d,\"generator\":\"%s\",\"cols\":%d,\"rows\":%d,\"terrain\":%.3f,\"walls\":%.3f,"
+                            + "\"gen_ms\":%.3f,\"solver\":\"%s\",\"found\":%b,\"cost\":%d,\"path_length\":%d,"
+                            + "\"visited\":%d,\"build_ms\":%.3f,\"solve_ms\":%.3f,\"bound\":%s,\"budget_exhausted\":%b,\"pushes\":%d,\"pops\":%d,\"stale_skips\":%d,"
+                            + "\"relaxations\":%d,\"peak_frontier\":%d,\"alloc_bytes\":%d}\n",
+                    seed, genAlgo.replace("\"", "\\\""), cols, rows, terrainProb, wallDensity, genMs, type.name(),
+                    r.isFound(), cost, r.getPath().length, r.getVisitedCount(), buildMs, solveMs,
+                    Double.isNaN(bound) ? "null" : String.format(Locale.ROOT, "%.3f", bound), r.isBudgetExhausted(), st.getPushes(),
+                    st.getPops(), st.getStaleSkips(), st.getRelaxations(), st.getPeakFrontier(), st.getAllocatedBytes()));
+        } else {
+            sb.append(String.format(Locale.ROOT, "%d,\"%s\",%d,%d,%.3f,%.3f,%.3f,%s,%b,%d,%d,%d,%.3f,%.3f,%s,%b,%d,%d,%d,%d,%d,%d\n",
+                    seed, genAlgo, cols, rows, terrainProb, wallDensity, genMs, type.name(), r.isFound(), cost,
+                    r.getPath().length, r.getVisitedCount(), buildMs, solveMs,
+                    Double.isNaN(bound) ? "" : String.format(Locale.ROOT, "%.3f", bound), r.isBudgetExhausted(), st.getPushes(), st.getPops(),
+                    st.getStaleSkips(), st.getRelaxations(), st.getPeakFrontier(), st.getAllocatedBytes()));
+        }
+    }
+
+    // Nama generator sama dengan pilihan di MazeApp; alias pendek agar mudah dipakai di shell
+    private static String parseGenerator(String name) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "prim": case "prim's": return "Prim's";
+            case "kruskal": case "kruskal's": return "Kruskal's";
+            case "eller": case "eller's": return "Eller's";
+            case "tiled": case "parallel tiled": return "Parallel Tiled";
+            default: throw new IllegalArgumentException("Unknown generator: " + name);
+        }
+    }
+
+    private static List<SolverType> parseSolvers(String spec) {
+        List<SolverType> list = new ArrayList<>();
+        if (spec.equalsIgnoreCase("all")) {
+            for (SolverType type : SolverType.values()) list.add(type);
+            return list;
+        }
+        for (String part : spec.split(",")) list.add(SolverType.valueOf(part.trim().toUpperCase(Locale.ROOT)));
+        return list;
+    }
+
+    // Budget ARA* dalam ms, atau "unlimited" (ARA* berjalan sampai eps = 1)
+    private static long parseBudget(String spec) {
+        if (spec.equalsIgnoreCase("unlimited")) return Long.MAX_VALUE;
+        return Long.parseLong(spec) * 1_000_000L;
+    }
+
+    private static boolean parseFormat(String format) {
+        if (format.equalsIgnoreCase("json")) return true;
+        if (format.equalsIgnoreCase("csv")) return false;
+        throw new IllegalArgumentException("Unknown format: " + format);
+    }
+}
\ No newline at end of file
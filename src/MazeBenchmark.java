@@ -0,0 +1,264 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Harness benchmark tanpa dependency: generate maze (Prim's/Kruskal's/Eller's/Parallel Tiled) & semua SolverType
+// pada maze ber-seed tetap. Melaporkan ops/s, alokasi (MB/s & B/op) dan tekanan GC.
+// Tiap benchmark berjalan di JVM baru (--forks, seperti @Fork JMH) agar profil JIT & heap satu
+// benchmark tidak mempengaruhi yang lain; --forks=0 menjalankan semuanya di proses ini.
+// Alokasi dihitung dari semua thread JVM, termasuk worker Parallel Tiled & build landmark paralel.
+//
+// Pemakaian: java MazeBenchmark [gen|solve|all] [--sizes=20x15,45x30] [--warmup=2] [--iterations=5] [--time=1000]
+//                               [--seed=42] [--forks=1]
+public class MazeBenchmark {
+    private static final String[] GEN_ALGOS = {"Prim's", "Kruskal's", "Eller's", "Parallel Tiled"};
+    private static final double[] TERRAIN_PROBS = {0.0, 0.2, 0.5};
+    private static final double[] WALL_DENSITIES = {1.0, 0.7, 0.4};
+    private static final String DEFAULT_SIZES = "20x15,30x20,45x30,200x150,1000x1000,4000x4000";
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Sink agar JIT tidak membuang hasil benchmark
+    private static volatile long blackhole;
+
+    private final int warmupIterations;
+    private final int measureIterations;
+    private final long iterationNanos;
+
+    private MazeBenchmark(int warmupIterations, int measureIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measureIterations = measureIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+    }
+
+    // Satu benchmark; setup dijalankan di JVM yang mengukurnya (maze solver dibangun di fork itu sendiri)
+    private static final class Case {
+        final String name;
+        final Supplier<LongSupplier> setup;
+
+        Case(String name, Supplier<LongSupplier> setup) {
+            this.name = name;
+            this.setup = setup;
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String mode = "all";
+        String sizes = DEFAULT_SIZES;
+        int warmup = 2, iterations = 5, forks = 1, caseIndex = -1;
+        long timeMs = 1000, seed = 42;
+        List<String> forkArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("--case=")) {
+                caseIndex = Integer.parseInt(arg.substring(7));
+                continue;
+            }
+            if (arg.startsWith("--sizes=")) sizes = arg.substring(8);
+            else if (arg.startsWith("--warmup=")) warmup = Integer.parseInt(arg.substring(9));
+            else if (arg.startsWith("--iterations=")) iterations = Integer.parseInt(arg.substring(13));
+            else if (arg.startsWith("--time=")) timeMs = Long.parseLong(arg.substring(7));
+            else if (arg.startsWith("--seed=")) seed = Long.parseLong(arg.substring(7));
+            else if (arg.startsWith("--forks=")) forks = Integer.parseInt(arg.substring(8));
+            else if (!arg.startsWith("--")) mode = arg;
+            else throw new IllegalArgumentException("Unknown option: " + arg);
+            forkArgs.add(arg);
+        }
+
+        MazeBenchmark bench = new MazeBenchmark(warmup, iterations, timeMs);
+        List<int[]> sizeList = parseSizes(sizes);
+        List<Case> cases = new ArrayList<>();
+        if (mode.equals("gen") || mode.equals("all")) addGeneration(cases, sizeList, seed);
+        if (mode.equals("solve") || mode.equals("all")) addSolvers(cases, sizeList, seed);
+
+        // Proses anak (satu fork): ukur satu case dan kirim sampel mentah ke parent lewat stdout
+        if (caseIndex >= 0) {
+            System.out.println(bench.measure(cases.get(caseIndex)).encode());
+            return;
+        }
+
+        printHeader();
+        for (int i = 0; i < cases.size(); i++) {
+            Sample total = new Sample();
+            if (forks <= 0) total.add(bench.measure(cases.get(i)));
+            for (int f = 0; f < forks; f++) total.add(runFork(forkArgs, i));
+            total.print(cases.get(i).name);
+        }
+    }
+
+    // --- BENCHMARK 1: KONSTRUKSI MazeGraphModel ---
+    private static void addGeneration(List<Case> cases, List<int[]> sizes, long seed) {
+        for (int[] size : sizes) {
+            for (String algo : GEN_ALGOS) {
+                for (double terrain : TERRAIN_PROBS) {
+                    for (double walls : WALL_DENSITIES) {
+                        String name = String.format(Locale.ROOT, "gen %s %dx%d terrain=%.1f walls=%.1f", algo, size[0], size[1], terrain, walls);
+                        cases.add(new Case(name, () -> {
+                            long[] counter = {seed};
+                            return () -> new MazeGraphModel(size[0], size[1], terrain, walls, algo, counter[0]++).getCellCount();
+                        }));
+                    }
+                }
+            }
+        }
+    }
+
+    // --- BENCHMARK 2: SOLVER PADA MAZE BER-SEED TETAP ---
+    private static void addSolvers(List<Case> cases, List<int[]> sizes, long seed) {
+        for (int[] size : sizes) {
+            for (double walls : WALL_DENSITIES) {
+                for (SolverType type : SolverType.values()) {
+                    String name = String.format(Locale.ROOT, "solve %s %dx%d walls=%.1f", type.name(), size[0], size[1], walls);
+                    cases.add(new Case(name, () -> {
+                        MazeGraphModel maze = new MazeGraphModel(size[0], size[1], 0.2, walls, "Prim's", seed);
+                        int goal = maze.getCellCount() - 1;
+                        return () -> MazeSolver.solve(maze, type, 0, goal).getVisitedCount();
+                    }));
+                }
+            }
+        }
+    }
+
+    // JVM baru dengan classpath & opsi JVM yang sama; stderr anak diteruskan apa adanya
+    private static Sample runFork(List<String> forkArgs, int caseIndex) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(MazeBenchmark.class.getName());
+        command.addAll(forkArgs);
+        command.add("--case=" + caseIndex);
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+
+        String last = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line; (line = reader.readLine()) != null; ) last = line;
+        }
+        int exit = process.waitFor();
+        if (exit != 0 || last == null) throw new IllegalStateException("Fork for case " + caseIndex + " failed with exit code " + exit);
+        return Sample.decode(last);
+    }
+
+    private Sample measure(Case c) {
+        LongSupplier op = c.setup.get();
+        for (int i = 0; i < warmupIterations; i++) runIteration(op);
+
+        Sample sample = new Sample();
+        sample.opsPerSec = new double[measureIterations];
+        long gcCountBefore = gcCount(), gcTimeBefore = gcTimeMillis();
+        for (int i = 0; i < measureIterations; i++) {
+            long[] it = runIteration(op);
+            sample.opsPerSec[i] = it[0] * 1e9 / it[1];
+            sample.ops += it[0];
+            sample.nanos += it[1];
+            sample.bytes += it[2];
+        }
+        sample.gcCount = gcCount() - gcCountBefore;
+        sample.gcTime = gcTimeMillis() - gcTimeBefore;
+        return sample;
+    }
+
+    // Return {ops, nanos, allocatedBytes}; minimal satu op per iterasi (untuk maze besar).
+    // Alokasi dari semua thread (termasuk yang sudah selesai), bukan hanya thread pemanggil.
+    private long[] runIteration(LongSupplier op) {
+        long allocBefore = THREAD_BEAN.getTotalThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long ops = 0, elapsed;
+        do {
+            blackhole += op.getAsLong();
+            ops++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < iterationNanos);
+        long allocated = THREAD_BEAN.getTotalThreadAllocatedBytes() - allocBefore;
+        return new long[]{ops, elapsed, allocated};
+    }
+
+    // Hasil pengukuran satu case, digabung lintas fork (iterasi semua fork masuk ke mean & stdev)
+    private static final class Sample {
+        double[] opsPerSec = new double[0];
+        long ops, nanos, bytes, gcCount, gcTime;
+
+        void add(Sample other) {
+            double[] merged = new double[opsPerSec.length + other.opsPerSec.length];
+            System.arraycopy(opsPerSec, 0, merged, 0, opsPerSec.length);
+            System.arraycopy(other.opsPerSec, 0, merged, opsPerSec.length, other.opsPerSec.length);
+            opsPerSec = merged;
+            ops += other.ops;
+            nanos += other.nanos;
+            bytes += other.bytes;
+            gcCount += other.gcCount;
+            gcTime += other.gcTime;
+        }
+
+        String encode() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(ops).append(' ').append(nanos).append(' ').append(bytes).append(' ').append(gcCount).append(' ').append(gcTime);
+            for (double v : opsPerSec) sb.append(' ').append(v);
+            return sb.toString();
+        }
+
+        static Sample decode(String line) {
+            String[] parts = line.trim().split(" ");
+            Sample s = new Sample();
+            s.ops = Long.parseLong(parts[0]);
+            s.nanos = Long.parseLong(parts[1]);
+            s.bytes = Long.parseLong(parts[2]);
+            s.gcCount = Long.parseLong(parts[3]);
+            s.gcTime = Long.parseLong(parts[4]);
+            s.opsPerSec = new double[parts.length - 5];
+            for (int i = 0; i < s.opsPerSec.length; i++) s.opsPerSec[i] = Double.parseDouble(parts[i + 5]);
+            return s;
+        }
+
+        void print(String name) {
+            double mean = 0;
+            for (double v : opsPerSec) mean += v;
+            mean /= opsPerSec.length;
+            double variance = 0;
+            for (double v : opsPerSec) variance += (v - mean) * (v - mean);
+            double stdev = opsPerSec.length > 1 ? Math.sqrt(variance / (opsPerSec.length - 1)) : 0;
+
+            double allocMbPerSec = bytes / 1_048_576.0 / (nanos / 1e9);
+            double bytesPerOp = (double) bytes / ops;
+            System.out.printf(Locale.ROOT, "%-52s %12.3f %10.3f %12.1f %16.0f %6d %8d%n",
+                    name, mean, stdev, allocMbPerSec, bytesPerOp, gcCount, gcTime);
+        }
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) total += Math.max(0, gc.getCollectionCount());
+        return total;
+    }
+
+    private static long gcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) total += Math.max(0, gc.getCollectionTime());
+        return total;
+    }
+
+    private static void printHeader() {
+        System.out.printf(Locale.ROOT, "%-52s %12s %10s %12s %16s %6s %8s%n",
+                "Benchmark", "ops/s", "stdev", "alloc MB/s", "alloc B/op", "GCs", "GC ms");
+    }
+
+    private static List<int[]> parseSizes(String spec) {
+        List<int[]> sizes = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] dims = part.trim().toLowerCase(Locale.ROOT).split("x");
+            sizes.add(new int[]{Integer.parseInt(dims[0]), Integer.parseInt(dims[1])});
+        }
+        return sizes;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Format biner maze (dibaca balik lewat MappedMaze): header 16 byte (magic, versi, cols, rows; little-endian) lalu
+// satu byte per sel baris demi baris: bit 0-3 mask dinding terbuka, bit 4-7 kode terrain.
+public final class MazeFile {
+    public static final int MAGIC = 0x455A414D; // "MAZE"
+    public static final int FORMAT_VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    private static final int TERRAIN_CODES = TerrainType.values().length;
+
+    private MazeFile() {}
+
+    // Simpan grid apa pun (mis. MazeGraphModel) ke file, baris demi baris
+    public static void write(MazeGrid grid, Path path) throws IOException {
+        int cols = grid.getCols();
+        byte[] masks = new byte[cols];
+        byte[] terrain = new byte[cols];
+        try (Writer writer = new Writer(path, cols, grid.getRows())) {
+            for (int y = 0; y < grid.getRows(); y++) {
+                for (int x = 0; x < cols; x++) {
+                    int cell = y * cols + x;
+                    masks[x] = (byte) grid.getOpenMask(cell);
+                    terrain[x] = (byte) grid.getTerrainCode(cell);
+                }
+                writer.acceptRow(y, masks, terrain);
+            }
+        }
+    }
+
+    static byte pack(int openMask, int terrainCode) {
+        return (byte) (openMask | terrainCode << 4);
+    }
+
+    // Null jika byte sel konsisten; selain itu alasannya. Solver mengandalkan kode terrain yang
+    // dikenal, tidak ada jalan keluar grid, dan dinding yang sama terlihat dari kedua sisi.
+    static String invalidCell(MazeGrid grid, int cell) {
+        int code = grid.getTerrainCode(cell);
+        if (code >= TERRAIN_CODES) return "kode terrain " + code + " tidak dikenal";
+        for (int d = 0; d < 4; d++) {
+            boolean open = grid.isOpen(cell, MazeGraphModel.DIR_BITS[d]);
+            int other = grid.neighbor(cell, d);
+            if (other == -1) {
+                if (open) return "jalan terbuka keluar grid";
+            } else if (open != grid.isOpen(other, MazeGraphModel.OPPOSITE_BITS[d])) {
+                return "dinding tidak simetris dengan sel " + other;
+            }
+        }
+        return null;
+    }
+
+    // RowSink yang menulis baris langsung ke file lewat FileChannel (dipakai generator streaming)
+    public static final class Writer implements RowSink, Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer; // Beberapa baris dikumpulkan dulu, satu write per ~64 KB
+        private final int cols;
+
+        public Writer(Path path, int cols, int rows) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(cols).putInt(rows).flip();
+            try {
+                writeFully(header);
+            } catch (IOException | RuntimeException e) {
+                // Konstruktor gagal: pemanggil tidak pernah dapat Writer untuk di-close
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+            this.cols = cols;
+            buffer = ByteBuffer.allocateDirect(Math.max(cols, 1 << 16));
+        }
+
+        @Override
+        public void acceptRow(int y, byte[] openMasks, byte[] terrain) throws IOException {
+            if (buffer.remaining() < cols) flush();
+            for (int x = 0; x < cols; x++) buffer.put(pack(openMasks[x], terrain[x]));
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            writeFully(buffer);
+            buffer.clear();
+        }
+
+        private void writeFully(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -1,56 +1,240 @@
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+public class MazeGraphModel implements MazeGrid {
+    // Bit dinding terbuka per sel (urutan indeks arah: atas, bawah, kiri, kanan)
+    public static final int NORTH = 1;
+    public static final int SOUTH = 2;
+    public static final int WEST = 4;
+    public static final int EAST = 8;
+
+    static final int[] DIR_BITS = {NORTH, SOUTH, WEST, EAST};
+    static final int[] OPPOSITE_BITS = {SOUTH, NORTH, EAST, WEST};
+    static final int[] DX = {0, 0, -1, 1};
+    static final int[] DY = {-1, 1, 0, 0};
 
-public class MazeGraphModel {
     private final int cols;
     private final int rows;
-    private Node[][] grid;
     private final Random random;
 
+    // Versi global: unik antar maze, naik setiap kali isi maze berubah (key PathCache)
+    private static final AtomicLong VERSIONS = new AtomicLong();
+    private volatile long version = nextVersion();
+
+    // Representasi grid padat: satu entri per sel, indeks = y * cols + x
+    private final byte[] openWalls; // Mask 4-bit dinding yang sudah dihancurkan
+    private final byte[] terrain;   // Kode TerrainType (ordinal)
+
+    // Graph koridor tereduksi, dibangun sekali saat pertama dibutuhkan
+    private volatile CorridorGraph corridorGraph;
+    // Layer HPA* (cluster + entrance), juga dibangun saat pertama dibutuhkan
+    private volatile HpaGraph hpaGraph;
+    private volatile Landmarks landmarks; // Distance field ALT, dibangun ulang setelah edit
+    // Preprocessing LCA untuk perfect maze; treeChecked membedakan "bukan tree" dari "belum dicek"
+    private MazeTree tree;
+    private boolean treeChecked;
+
     // Parameter Kustomisasi
     private double terrainProbability;
     private double wallDensity;
-    private String generationAlgo; // "Prim's" atau "Kruskal's"
+    private String generationAlgo; // "Prim's", "Kruskal's", "Eller's" atau "Parallel Tiled"
+
+    // Ukuran tile generator paralel (tetap, supaya hasil tidak bergantung jumlah thread)
+    private static final int TILE_SIZE = 128;
+
+    // Salinan di memori dari grid lain (mis. MappedMaze yang dibaca dari file), bisa diedit
+    private MazeGraphModel(MazeGrid source) {
+        this.cols = source.getCols();
+        this.rows = source.getRows();
+        this.terrainProbability = 0.0;
+        this.wallDensity = 1.0;
+        this.generationAlgo = "Loaded";
+
+        int cellCount = cols * rows;
+        this.openWalls = new byte[cellCount];
+        this.terrain = new byte[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            String error = MazeFile.invalidCell(source, cell);
+            if (error != null) throw new IllegalArgumentException("Grid tidak valid di sel (" + source.xOf(cell) + ", " + source.yOf(cell) + "): " + error);
+            openWalls[cell] = (byte) source.getOpenMask(cell);
+            terrain[cell] = (byte) source.getTerrainCode(cell);
+        }
+        this.random = new Random();
+    }
+
+    // IllegalArgumentException jika source berisi byte sel yang tidak valid
+    public static MazeGraphModel copyOf(MazeGrid source) {
+        return new MazeGraphModel(source);
+    }
+
+    static long nextVersion() { return VERSIONS.incrementAndGet(); }
 
     public MazeGraphModel(int cols, int rows, double terrainProb, double wallDensity, String genAlgo) {
+        this(cols, rows, terrainProb, wallDensity, genAlgo, new Random().nextLong());
+    }
+
+    // Seed tetap -> maze yang sama persis (dipakai benchmark)
+    public MazeGraphModel(int cols, int rows, double terrainProb, double wallDensity, String genAlgo, long seed) {
         this.cols = cols;
         this.rows = rows;
         this.terrainProbability = terrainProb;
         this.wallDensity = wallDensity;
         this.generationAlgo = genAlgo;
 
-        this.random = new Random();
+        int cellCount = cols * rows;
+        this.openWalls = new byte[cellCount];
+        this.terrain = new byte[cellCount];
+
+        this.random = new Random(seed);
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        long allocBefore = SearchStats.threadAllocatedBytes();
         initializeGrid();
+        if (event.shouldCommit()) {
+            event.algorithm = genAlgo;
+            event.cols = cols;
+            event.rows = rows;
+            event.terrainProbability = terrainProb;
+            event.wallDensity = wallDensity;
+            // Hanya thread pemanggil: worker Parallel Tiled tidak ikut terhitung
+            event.allocatedBytes = allocBefore < 0 ? -1 : SearchStats.threadAllocatedBytes() - allocBefore;
+            event.commit();
+        }
     }
 
-    public Node[][] getGrid() { return grid; }
     public int getCols() { return cols; }
     public int getRows() { return rows; }
+    public int getCellCount() { return openWalls.length; }
+    public long getVersion() { return version; }
 
-    private void initializeGrid() {
-        grid = new Node[cols][rows];
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                grid[x][y] = new Node(x, y);
-                grid[x][y].terrain = TerrainType.TERRACE; // Default
-
-                // Set Terrain Obstacles (Air/Lumpur)
-                if (random.nextDouble() < terrainProbability) {
-                    grid[x][y].terrain = TerrainType.getRandomObstacle();
-                }
+    // --- AKSES GRID PADAT ---
+    public int index(int x, int y) { return y * cols + x; }
+    public int xOf(int cell) { return cell % cols; }
+    public int yOf(int cell) { return cell / cols; }
 
-                // Start & End Wajib Aman
-                if ((x == 0 && y == 0) || (x == cols - 1 && y == rows - 1)) {
-                    grid[x][y].terrain = TerrainType.TERRACE;
+    public int getOpenMask(int cell) { return openWalls[cell]; }
+    public boolean isOpen(int cell, int dirBit) { return (openWalls[cell] & dirBit) != 0; }
+    public int getTerrainCode(int cell) { return terrain[cell]; }
+    public TerrainType getTerrain(int cell) { return TerrainType.fromCode(terrain[cell]); }
+    public int getCost(int cell) { return TerrainType.costOf(terrain[cell]); }
+
+    // Tetangga ke arah dir (0..3), -1 jika di luar grid
+    public int neighbor(int cell, int dir) {
+        int nx = cell % cols + DX[dir];
+        int ny = cell / cols + DY[dir];
+        if (nx < 0 || nx >= cols || ny < 0 || ny >= rows) return -1;
+        return ny * cols + nx;
+    }
+
+    public CorridorGraph getCorridorGraph() {
+        CorridorGraph graph = corridorGraph;
+        if (graph == null) {
+            synchronized (this) {
+                graph = corridorGraph;
+                if (graph == null) corridorGraph = graph = CorridorGraph.build(this);
+            }
+        }
+        return graph;
+    }
+
+    public HpaGraph getHpaGraph() {
+        HpaGraph graph = hpaGraph;
+        if (graph == null) {
+            synchronized (this) {
+                graph = hpaGraph;
+                if (graph == null) hpaGraph = graph = HpaGraph.build(this, HpaGraph.DEFAULT_CLUSTER_SIZE);
+            }
+        }
+        return graph;
+    }
+
+    // Hanya field yang dibangun dari versi maze saat ini
+    public Landmarks peekLandmarks() {
+        Landmarks lm = landmarks;
+        return lm != null && lm.getVersion() == version ? lm : null;
+    }
+
+    // Dibangun di luar monitor model, jadi edit dari EDT (setTerrain/setWall) tidak menunggu
+    // build selesai. Field yang terlanjur dibangun saat maze diedit membawa versi lama dan
+    // dibangun ulang; build paralel oleh dua pemanggil hanya membuang kerja, tidak salah.
+    public Landmarks getLandmarks() {
+        while (true) {
+            Landmarks lm = peekLandmarks();
+            if (lm != null) return lm;
+            lm = Landmarks.build(this, Landmarks.DEFAULT_COUNT);
+            if (lm == null) return null;
+            landmarks = lm; // Publikasi dengan satu volatile write
+            if (lm.getVersion() == version) return lm;
+        }
+    }
+
+    // Null jika maze punya loop (wall density di bawah High menambah jalan pintas)
+    public synchronized MazeTree getTree() {
+        if (!treeChecked) {
+            tree = MazeTree.build(this);
+            treeChecked = true;
+        }
+        return tree;
+    }
+
+    public boolean isPerfectMaze() { return getTree() != null; }
+
+    // Ubah terrain satu sel saat runtime. Cache turunan ikut diperbarui:
+    // graph koridor dibangun ulang, HPA* hanya menghitung ulang cluster sel tersebut.
+    public synchronized void setTerrain(int cell, TerrainType type) {
+        terrain[cell] = (byte) type.ordinal();
+        version = nextVersion();
+        corridorGraph = null;
+        tree = null; // Cost kumulatif tree ikut berubah
+        treeChecked = false;
+        landmarks = null;
+        if (hpaGraph != null) hpaGraph.onTerrainChanged(cell);
+    }
+
+    // Buka / tutup dinding antara cell dan tetangganya ke arah dir (dinding tepi grid tetap).
+    // Graph koridor & tree dibangun ulang saat dibutuhkan, HPA* memperbarui cluster terkait.
+    public synchronized void setWall(int cell, int dir, boolean open) {
+        int other = neighbor(cell, dir);
+        if (other == -1) return;
+        if (open) {
+            openWall(cell, dir);
+        } else {
+            openWalls[cell] &= (byte) ~DIR_BITS[dir];
+            openWalls[other] &= (byte) ~OPPOSITE_BITS[dir];
+        }
+        version = nextVersion();
+        corridorGraph = null;
+        tree = null;
+        treeChecked = false;
+        landmarks = null;
+        if (hpaGraph != null) hpaGraph.onWallChanged(cell, other);
+    }
+
+    // View Node hanya untuk kebutuhan UI (path layer, marker)
+    public Node getNode(int cell) {
+        return new Node(cell % cols, cell / cols, getTerrain(cell));
+    }
+
+    private void initializeGrid() {
+        // Mode paralel mengisi terrain per tile sendiri (dengan RNG tile)
+        if (!generationAlgo.equals("Parallel Tiled")) {
+            for (int x = 0; x < cols; x++) {
+                for (int y = 0; y < rows; y++) {
+                    terrain[index(x, y)] = randomTerrain(x, y, random);
                 }
             }
         }
 
         // Pilih Algoritma Generasi
-        if (generationAlgo.equals("Kruskal's")) {
+        if (generationAlgo.equals("Parallel Tiled")) {
+            generateTiled();
+        } else if (generationAlgo.equals("Kruskal's")) {
             generateKruskal();
+        } else if (generationAlgo.equals("Eller's")) {
+            generateEller();
         } else {
             generatePrim(); // Default
         }
@@ -58,105 +242,228 @@ public class MazeGraphModel {
         // Terapkan Wall Density (Membuat Loop/Jalan Pintas)
         double extraPathFactor = (1.0 - wallDensity) * 0.4;
         addExtraPaths(extraPathFactor);
+    }
+
+    private byte randomTerrain(int x, int y, Random rng) {
+        TerrainType type = TerrainType.TERRACE; // Default
+
+        // Set Terrain Obstacles (Air/Lumpur)
+        if (rng.nextDouble() < terrainProbability) {
+            type = TerrainType.getRandomObstacle(rng);
+        }
+
+        // Start & End Wajib Aman
+        if ((x == 0 && y == 0) || (x == cols - 1 && y == rows - 1)) {
+            type = TerrainType.TERRACE;
+        }
+        return (byte) type.ordinal();
+    }
 
-        resetVisited();
+    // Hancurkan dinding antara cell dan tetangganya ke arah dir
+    private void openWall(int cell, int dir) {
+        int other = neighbor(cell, dir);
+        openWalls[cell] = (byte) (openWalls[cell] | DIR_BITS[dir]);
+        openWalls[other] = (byte) (openWalls[other] | OPPOSITE_BITS[dir]);
     }
 
+    // Edge grid dikodekan sebagai int: id < n = dinding kanan sel id, id >= n = dinding bawah sel (id - n)
+    private int edgeCell(int edge) { return edge < openWalls.length ? edge : edge - openWalls.length; }
+    private int edgeDir(int edge) { return edge < openWalls.length ? 3 : 1; } // Kanan / Bawah
+
     // --- 1. PRIM'S ALGORITHM (Tumbuh dari satu titik) ---
+    // Frontier berupa int[] id edge; ambil acak lalu swap-remove O(1). Tiap edge masuk
+    // frontier paling banyak sekali (dari sel yang lebih dulu masuk maze), jadi 2n cukup.
     private void generatePrim() {
-        List<Edge> walls = new ArrayList<>();
-        Node startNode = grid[0][0];
-        startNode.visited = true;
-        addNeighborsToWalls(startNode, walls);
-
-        while (!walls.isEmpty()) {
-            int randomIndex = random.nextInt(walls.size());
-            Edge currentEdge = walls.remove(randomIndex);
-            Node u = currentEdge.source;
-            Node v = currentEdge.target;
-
-            if (!v.visited) {
-                u.neighbors.add(v);
-                v.neighbors.add(u);
-                v.visited = true;
-                addNeighborsToWalls(v, walls);
+        int[] walls = new int[2 * openWalls.length];
+        boolean[] inMaze = new boolean[openWalls.length];
+        inMaze[0] = true;
+        int size = addNeighborsToWalls(0, inMaze, walls, 0);
+
+        while (size > 0) {
+            int randomIndex = random.nextInt(size);
+            int edge = walls[randomIndex];
+            walls[randomIndex] = walls[--size];
+            int cell = edgeCell(edge), dir = edgeDir(edge);
+            int other = neighbor(cell, dir);
+            int v = inMaze[cell] ? other : cell;
+
+            if (!inMaze[v]) {
+                openWall(cell, dir);
+                inMaze[v] = true;
+                size = addNeighborsToWalls(v, inMaze, walls, size);
             }
         }
     }
 
+    private int addNeighborsToWalls(int cell, boolean[] inMaze, int[] walls, int size) {
+        int n = openWalls.length;
+        for (int dir = 0; dir < 4; dir++) {
+            int next = neighbor(cell, dir);
+            if (next == -1 || inMaze[next]) continue;
+            // Atas/kiri = dinding bawah/kanan milik tetangga
+            if (dir == 0) walls[size++] = n + next;
+            else if (dir == 1) walls[size++] = n + cell;
+            else if (dir == 2) walls[size++] = next;
+            else walls[size++] = cell;
+        }
+        return size;
+    }
+
     // --- 2. KRUSKAL'S ALGORITHM (Menggabungkan set acak) ---
     private void generateKruskal() {
-        List<Edge> allEdges = new ArrayList<>();
+        int n = openWalls.length;
+        int[] allEdges = new int[2 * n];
+        int count = 0;
 
         // Kumpulkan semua kemungkinan dinding (Horizontal & Vertikal)
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                if (x + 1 < cols) allEdges.add(new Edge(grid[x][y], grid[x+1][y])); // Kanan
-                if (y + 1 < rows) allEdges.add(new Edge(grid[x][y], grid[x][y+1])); // Bawah
-            }
+        for (int cell = 0; cell < n; cell++) {
+            if (xOf(cell) + 1 < cols) allEdges[count++] = cell;     // Kanan
+            if (yOf(cell) + 1 < rows) allEdges[count++] = n + cell; // Bawah
         }
 
-        // Acak urutan dinding
-        Collections.shuffle(allEdges, random);
+        // Acak urutan dinding (Fisher-Yates)
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = allEdges[i];
+            allEdges[i] = allEdges[j];
+            allEdges[j] = tmp;
+        }
 
         // Disjoint Set Union (DSU) Structure
-        int[] parent = new int[cols * rows];
-        for (int i = 0; i < parent.length; i++) parent[i] = i;
+        int[] dsu = new int[n];
+        byte[] rank = new byte[n];
+        for (int i = 0; i < n; i++) dsu[i] = i;
 
-        for (Edge edge : allEdges) {
-            Node u = edge.source;
-            Node v = edge.target;
+        for (int i = 0; i < count; i++) {
+            int idU = edgeCell(allEdges[i]);
+            int dir = edgeDir(allEdges[i]);
+            int idV = neighbor(idU, dir);
 
-            int idU = u.y * cols + u.x;
-            int idV = v.y * cols + v.x;
-
-            int rootU = findSet(parent, idU);
-            int rootV = findSet(parent, idV);
+            int rootU = findSet(dsu, idU);
+            int rootV = findSet(dsu, idV);
 
             // Jika node u dan v berada di set berbeda, hubungkan (hancurkan dinding)
             if (rootU != rootV) {
-                u.neighbors.add(v);
-                v.neighbors.add(u);
-                unionSet(parent, rootU, rootV);
+                openWall(idU, dir);
+                unionSet(dsu, rank, rootU, rootV);
+            }
+        }
+    }
+
+    // --- 3. ELLER'S ALGORITHM (Baris per baris, memori O(lebar)) ---
+    // Di sini hanya struktur dinding yang diambil; terrain & loop tetap dari model.
+    private void generateEller() {
+        EllerGenerator generator = new EllerGenerator(cols, rows, 0.0, 1.0, random.nextLong());
+        try {
+            generator.generate((y, openMasks, rowTerrain) -> System.arraycopy(openMasks, 0, openWalls, y * cols, cols));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Sink in-memory tidak pernah melempar
+        }
+    }
+
+    // --- 4. PARALLEL TILED (Prim per tile secara paralel, lalu dijahit dengan Kruskal) ---
+    // Tiap tile punya RNG sendiri dari (seed, indeks tile) dan hanya menulis sel miliknya,
+    // jadi hasilnya sama persis berapapun jumlah thread. Di dalam tile terbentuk spanning
+    // tree; Kruskal atas DSU tile memilih tepat satu dinding batas per gabungan, sehingga
+    // hasil akhirnya tetap perfect maze sebelum addExtraPaths.
+    private void generateTiled() {
+        int tilesX = (cols + TILE_SIZE - 1) / TILE_SIZE;
+        int tilesY = (rows + TILE_SIZE - 1) / TILE_SIZE;
+        long baseSeed = random.nextLong();
+        IntStream.range(0, tilesX * tilesY).parallel()
+                .forEach(t -> generateTile(t % tilesX * TILE_SIZE, t / tilesX * TILE_SIZE, new Random(mixSeed(baseSeed, t))));
+
+        // Kumpulkan dinding di batas tile (kanan & bawah), encoding: sel * 4 + arah
+        int[] boundary = new int[(tilesX - 1) * rows + (tilesY - 1) * cols];
+        int n = 0;
+        for (int y = 0; y < rows; y++) {
+            for (int x = TILE_SIZE; x < cols; x += TILE_SIZE) boundary[n++] = index(x - 1, y) * 4 + 3; // Kanan
+        }
+        for (int y = TILE_SIZE; y < rows; y += TILE_SIZE) {
+            for (int x = 0; x < cols; x++) boundary[n++] = index(x, y - 1) * 4 + 1; // Bawah
+        }
+        for (int i = n - 1; i > 0; i--) { // Fisher-Yates, RNG utama (sekuensial)
+            int j = random.nextInt(i + 1);
+            int tmp = boundary[i];
+            boundary[i] = boundary[j];
+            boundary[j] = tmp;
+        }
+
+        int[] dsu = new int[tilesX * tilesY];
+        for (int i = 0; i < dsu.length; i++) dsu[i] = i;
+        for (int i = 0; i < n; i++) {
+            int cell = boundary[i] >> 2, dir = boundary[i] & 3;
+            int other = neighbor(cell, dir);
+            int rootA = findSet(dsu, (yOf(cell) / TILE_SIZE) * tilesX + xOf(cell) / TILE_SIZE);
+            int rootB = findSet(dsu, (yOf(other) / TILE_SIZE) * tilesX + xOf(other) / TILE_SIZE);
+            if (rootA != rootB) {
+                openWall(cell, dir);
+                dsu[rootA] = rootB;
             }
         }
     }
 
-    // Helper DSU Find
-    private int findSet(int[] parent, int i) {
-        if (parent[i] == i) return i;
-        return parent[i] = findSet(parent, parent[i]); // Path compression
+    // Terrain + Prim's di dalam satu tile; frontier berisi (indeks lokal * 4 + arah)
+    private void generateTile(int x0, int y0, Random rng) {
+        int w = Math.min(TILE_SIZE, cols - x0);
+        int h = Math.min(TILE_SIZE, rows - y0);
+        for (int y = y0; y < y0 + h; y++) {
+            for (int x = x0; x < x0 + w; x++) terrain[index(x, y)] = randomTerrain(x, y, rng);
+        }
+
+        boolean[] inTile = new boolean[w * h];
+        int[] frontier = new int[w * h * 4];
+        int size = 0;
+        int first = rng.nextInt(w * h);
+        inTile[first] = true;
+        size = pushTileFrontier(first, w, h, inTile, frontier, size);
+        while (size > 0) {
+            int i = rng.nextInt(size);
+            int entry = frontier[i];
+            frontier[i] = frontier[--size]; // Swap-remove
+            int local = entry >> 2, dir = entry & 3;
+            int next = local + DY[dir] * w + DX[dir];
+            if (inTile[next]) continue;
+            openWall(index(x0 + local % w, y0 + local / w), dir);
+            inTile[next] = true;
+            size = pushTileFrontier(next, w, h, inTile, frontier, size);
+        }
     }
 
-    // Helper DSU Union
-    private void unionSet(int[] parent, int i, int j) {
-        int rootI = findSet(parent, i);
-        int rootJ = findSet(parent, j);
-        if (rootI != rootJ) {
-            parent[rootI] = rootJ;
+    private int pushTileFrontier(int local, int w, int h, boolean[] inTile, int[] frontier, int size) {
+        int lx = local % w, ly = local / w;
+        for (int dir = 0; dir < 4; dir++) {
+            int nx = lx + DX[dir], ny = ly + DY[dir];
+            if (nx < 0 || nx >= w || ny < 0 || ny >= h || inTile[ny * w + nx]) continue;
+            frontier[size++] = local * 4 + dir;
         }
+        return size;
     }
 
-    public void resetVisited() {
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                grid[x][y].visited = false;
-                grid[x][y].parent = null;
-            }
+    // SplitMix64: seed tile yang tidak berkorelasi walau indeks tile berurutan
+    private static long mixSeed(long seed, int tile) {
+        long z = seed + (tile + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Helper DSU Find (iteratif dengan path halving: aman dari StackOverflowError)
+    private static int findSet(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
         }
+        return i;
     }
 
-    private void addNeighborsToWalls(Node node, List<Edge> walls) {
-        int[][] directions = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
-        for (int[] dir : directions) {
-            int nx = node.x + dir[0];
-            int ny = node.y + dir[1];
-            if (nx >= 0 && nx < cols && ny >= 0 && ny < rows) {
-                Node neighbor = grid[nx][ny];
-                if (!neighbor.visited) {
-                    walls.add(new Edge(node, neighbor));
-                }
-            }
+    // Helper DSU Union (by rank, dipanggil dengan dua root berbeda)
+    private static void unionSet(int[] parent, byte[] rank, int rootI, int rootJ) {
+        if (rank[rootI] < rank[rootJ]) {
+            parent[rootI] = rootJ;
+        } else {
+            parent[rootJ] = rootI;
+            if (rank[rootI] == rank[rootJ]) rank[rootI]++;
         }
     }
 
@@ -164,23 +471,17 @@ public class MazeGraphModel {
         if (factor <= 0) return;
         int totalCells = cols * rows;
         int numExtraPaths = (int) (totalCells * factor);
-        int[][] directions = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
 
         for (int i = 0; i < numExtraPaths; i++) {
             int x = random.nextInt(cols);
             int y = random.nextInt(rows);
-            Node nodeA = grid[x][y];
+            int cellA = index(x, y);
             for (int attempt = 0; attempt < 10; attempt++) {
-                int[] dir = directions[random.nextInt(directions.length)];
-                int nx = x + dir[0];
-                int ny = y + dir[1];
-                if (nx >= 0 && nx < cols && ny >= 0 && ny < rows) {
-                    Node nodeB = grid[nx][ny];
-                    if (!nodeA.neighbors.contains(nodeB)) {
-                        nodeA.neighbors.add(nodeB);
-                        nodeB.neighbors.add(nodeA);
-                        break;
-                    }
+                int dir = random.nextInt(4);
+                int cellB = neighbor(cellA, dir);
+                if (cellB != -1 && !isOpen(cellA, DIR_BITS[dir])) {
+                    openWall(cellA, dir);
+                    break;
                 }
             }
         }
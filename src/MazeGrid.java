@@ -0,0 +1,36 @@
+// Akses read-only ke grid padat: mask dinding terbuka (4 bit) + kode terrain per sel,
+// indeks sel = y * cols + x. Diimplementasikan MazeGraphModel (di memori) dan
+// MappedMaze (file yang di-map), jadi solver berjalan di atas keduanya tanpa objek per sel.
+public interface MazeGrid {
+    int getCols();
+    int getRows();
+    int getOpenMask(int cell);
+    int getTerrainCode(int cell);
+
+    // Naik setiap kali isi grid berubah (key PathCache)
+    long getVersion();
+
+    // Struktur turunan, dibangun sekali saat pertama dibutuhkan
+    CorridorGraph getCorridorGraph();
+    HpaGraph getHpaGraph();
+    MazeTree getTree(); // Null jika maze punya loop
+    Landmarks getLandmarks(); // Null jika distance field melebihi batas memori
+    Landmarks peekLandmarks(); // Tanpa memicu build: null jika belum dibangun
+
+    default int getCellCount() { return getCols() * getRows(); }
+    default int index(int x, int y) { return y * getCols() + x; }
+    default int xOf(int cell) { return cell % getCols(); }
+    default int yOf(int cell) { return cell / getCols(); }
+    default boolean isOpen(int cell, int dirBit) { return (getOpenMask(cell) & dirBit) != 0; }
+    default TerrainType getTerrain(int cell) { return TerrainType.fromCode(getTerrainCode(cell)); }
+    default int getCost(int cell) { return TerrainType.costOf(getTerrainCode(cell)); }
+
+    // Tetangga ke arah dir (0..3), -1 jika di luar grid
+    default int neighbor(int cell, int dir) {
+        int cols = getCols();
+        int nx = cell % cols + MazeGraphModel.DX[dir];
+        int ny = cell / cols + MazeGraphModel.DY[dir];
+        if (nx < 0 || nx >= cols || ny < 0 || ny >= getRows()) return -1;
+        return ny * cols + nx;
+    }
+}
\ No newline at end of file
@@ -1,7 +1,10 @@
 import javax.swing.*;
 import java.awt.*;
-import java.awt.geom.AffineTransform;
-import java.util.ArrayList;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,16 +13,59 @@ import java.util.Random;
 public class MazePanel extends JPanel {
     private static final int BASE_CELL_SIZE = 50;
 
+    // Level of detail berdasarkan ukuran sel di layar (piksel)
+    private static final double WALL_LOD_PX = 4;    // Di bawah ini: raster 1 piksel per sel saja
+    private static final double DETAIL_LOD_PX = 16; // Di atas ini: terrain digambar lengkap per sel
+    private static final double MAX_CELL_PX = 120;
+    private static final double ZOOM_STEP = 1.25;
+
     private MazeGraphModel mazeModel;
 
-    // Animasi (Kuning)
-    private List<Node> exploredNodes = new ArrayList<>();
+    // Animasi (Kuning): bitset + urutan sel, ditulis thread solver tanpa lock
+    private static final int EXPLORED_RGB = new Color(255, 230, 0, 150).getRGB();
+    private static final int FRAME_INTERVAL_MS = 16; // ~60 FPS
+    private volatile ExplorationOverlay explored;
+
+    // Sisi EDT: 1 piksel per sel, diisi inkremental hanya untuk sel baru
+    private BufferedImage exploredImage;
+    private ExplorationOverlay paintedOverlay;
+    private int paintedCount;
+    private final Timer frameTimer;
+
+    // Layout dari frame terakhir (untuk repaint area yang berubah saja)
+    private double lastScale;
+    private int lastOffsetX;
+    private int lastOffsetY;
 
     // Penyimpanan Multi-Path untuk Compare Mode
     private Map<String, PathLayer> pathLayers = new LinkedHashMap<>();
 
     private Random visualRandom = new Random();
 
+    // Titik start & goal pilihan user (default: pojok kiri atas -> kanan bawah)
+    private int startCell;
+    private int goalCell;
+
+    // Raster terrain 1 piksel per sel, ditulis langsung ke int[] milik image.
+    // Dipakai saat zoom out (diskalakan nearest-neighbor) dan dibangun ulang setelah edit.
+    private BufferedImage terrainRaster;
+
+    // Layer statis seukuran panel untuk viewport saat ini (hanya sel yang terlihat, sesuai LOD).
+    // Frame animasi & repaint dirty-rect cukup mem-blit keduanya; dirender ulang hanya jika
+    // model diganti, maze diedit, atau ukuran panel / skala / offset (zoom, pan) berubah.
+    // Dinding di layer terpisah supaya tetap tergambar di atas overlay.
+    private BufferedImage terrainLayer;
+    private BufferedImage wallLayer;
+    private double layerScale;
+    private int layerOffsetX;
+    private int layerOffsetY;
+
+    // Viewport: zoom relatif terhadap skala "fit", pan dalam piksel layar
+    private double zoom = 1.0;
+    private int panX;
+    private int panY;
+    private Point dragOrigin;
+
     private static class PathLayer {
         List<Node> nodes;
         Color color;
@@ -31,21 +77,79 @@ public class MazePanel extends JPanel {
 
     public MazePanel(MazeGraphModel model) {
         this.mazeModel = model;
+        this.explored = new ExplorationOverlay(model.getCellCount());
+        this.goalCell = model.getCellCount() - 1;
         this.setOpaque(false);
+
+        // Ambil perubahan eksplorasi secara berkala, bukan satu invokeLater per node
+        frameTimer = new Timer(FRAME_INTERVAL_MS, e -> flushExplored());
+        frameTimer.setCoalesce(true);
+        frameTimer.start();
+
+        // Geser (drag) & zoom (scroll) untuk menjelajah maze besar
+        MouseAdapter viewportHandler = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) { dragOrigin = e.getPoint(); }
+
+            @Override
+            public void mouseReleased(MouseEvent e) { dragOrigin = null; }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (dragOrigin == null) return;
+                panX += e.getX() - dragOrigin.x;
+                panY += e.getY() - dragOrigin.y;
+                dragOrigin = e.getPoint();
+                repaint();
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoomAt(e.getX(), e.getY(), Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation()));
+            }
+        };
+        addMouseListener(viewportHandler);
+        addMouseMotionListener(viewportHandler);
+        addMouseWheelListener(viewportHandler);
+    }
+
+    // Zoom dengan sel di bawah kursor tetap di tempat
+    private void zoomAt(int px, int py, double factor) {
+        if (mazeModel == null || lastScale <= 0) return;
+        double fitScale = lastScale / zoom;
+        double maxZoom = Math.max(1.0, MAX_CELL_PX / (BASE_CELL_SIZE * fitScale));
+        double newZoom = Math.max(1.0, Math.min(maxZoom, zoom * factor));
+        if (newZoom == zoom) return;
+        if (newZoom == 1.0) {
+            panX = 0; // Zoom out penuh: kembali ke tengah
+            panY = 0;
+        } else {
+            double cellX = (px - lastOffsetX) / (BASE_CELL_SIZE * lastScale);
+            double cellY = (py - lastOffsetY) / (BASE_CELL_SIZE * lastScale);
+            double newScale = fitScale * newZoom;
+            panX = (int) Math.round(px - cellX * BASE_CELL_SIZE * newScale - (getWidth() - mazeModel.getCols() * BASE_CELL_SIZE * newScale) / 2.0);
+            panY = (int) Math.round(py - cellY * BASE_CELL_SIZE * newScale - (getHeight() - mazeModel.getRows() * BASE_CELL_SIZE * newScale) / 2.0);
+        }
+        zoom = newZoom;
+        repaint();
     }
 
     public void setMazeModel(MazeGraphModel model) {
         this.mazeModel = model;
+        this.startCell = 0;
+        this.goalCell = model.getCellCount() - 1;
+        this.zoom = 1.0;
+        this.panX = 0;
+        this.panY = 0;
+        invalidateStaticLayers();
         clearExplored();
         clearAllPaths();
         repaint();
     }
 
     public void clearExplored() {
-        SwingUtilities.invokeLater(() -> {
-            exploredNodes.clear();
-            repaint();
-        });
+        explored = new ExplorationOverlay(mazeModel.getCellCount());
+        repaint();
     }
 
     public void clearAllPaths() {
@@ -55,11 +159,43 @@ public class MazePanel extends JPanel {
         });
     }
 
-    public void addExploredNode(Node n) {
-        SwingUtilities.invokeLater(() -> {
-            exploredNodes.add(n);
-            repaint();
-        });
+    public void setEndpoints(int start, int goal) {
+        this.startCell = start;
+        this.goalCell = goal;
+        repaint();
+    }
+
+    // Sel di bawah titik layar (koordinat panel), -1 jika di luar maze
+    public int cellAt(int px, int py) {
+        if (mazeModel == null || lastScale <= 0) return -1;
+        double cellPx = BASE_CELL_SIZE * lastScale;
+        int x = (int) Math.floor((px - lastOffsetX) / cellPx);
+        int y = (int) Math.floor((py - lastOffsetY) / cellPx);
+        if (x < 0 || x >= mazeModel.getCols() || y < 0 || y >= mazeModel.getRows()) return -1;
+        return mazeModel.index(x, y);
+    }
+
+    // Sisi sel terdekat dari titik layar (indeks arah 0..3), untuk edit dinding
+    public int nearestSide(int px, int py) {
+        double cellPx = BASE_CELL_SIZE * lastScale;
+        double fx = (px - lastOffsetX) / cellPx, fy = (py - lastOffsetY) / cellPx;
+        fx -= Math.floor(fx);
+        fy -= Math.floor(fy);
+        double[] distance = {fy, 1 - fy, fx, 1 - fx}; // Atas, bawah, kiri, kanan
+        int best = 0;
+        for (int d = 1; d < 4; d++) if (distance[d] < distance[best]) best = d;
+        return best;
+    }
+
+    // Terrain / dinding diedit: render ulang layer statis pada frame berikutnya
+    public void refreshStaticLayers() {
+        invalidateStaticLayers();
+        repaint();
+    }
+
+    // Aman dipanggil dari thread solver; EDT mengambilnya pada frame berikutnya
+    public void addExploredCell(int cell) {
+        explored.mark(cell);
     }
 
     public void addFinalPath(String algoName, List<Node> path, Color color) {
@@ -69,6 +205,131 @@ public class MazePanel extends JPanel {
         });
     }
 
+    // Dipanggil timer di EDT: tulis sel baru ke image lalu repaint area yang berubah saja
+    private void flushExplored() {
+        if (mazeModel == null || lastScale <= 0) return;
+        ExplorationOverlay overlay = explored;
+        if (overlay != paintedOverlay) {
+            repaint(); // Overlay diganti (clear): gambar ulang penuh
+            return;
+        }
+        int target = overlay.publishedCount();
+        if (target == paintedCount) return;
+
+        int cols = mazeModel.getCols();
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = -1, maxY = -1;
+        for (int i = paintedCount; i < target; i++) {
+            int cell = overlay.cellAt(i);
+            int x = cell % cols, y = cell / cols;
+            exploredImage.setRGB(x, y, EXPLORED_RGB);
+            minX = Math.min(minX, x); maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y); maxY = Math.max(maxY, y);
+        }
+        paintedCount = target;
+
+        double cellPx = BASE_CELL_SIZE * lastScale;
+        int rx = lastOffsetX + (int) Math.floor(minX * cellPx) - 2;
+        int ry = lastOffsetY + (int) Math.floor(minY * cellPx) - 2;
+        int rw = (int) Math.ceil((maxX - minX + 1) * cellPx) + 4;
+        int rh = (int) Math.ceil((maxY - minY + 1) * cellPx) + 4;
+        repaint(rx, ry, rw, rh);
+    }
+
+    // Pastikan exploredImage sesuai overlay aktif (EDT)
+    private void syncExploredImage() {
+        ExplorationOverlay overlay = explored;
+        int cols = mazeModel.getCols();
+        int rows = mazeModel.getRows();
+        if (exploredImage == null || exploredImage.getWidth() != cols || exploredImage.getHeight() != rows || overlay != paintedOverlay) {
+            exploredImage = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_ARGB);
+            paintedOverlay = overlay;
+            paintedCount = 0;
+        }
+        int target = overlay.publishedCount();
+        for (int i = paintedCount; i < target; i++) {
+            int cell = overlay.cellAt(i);
+            exploredImage.setRGB(cell % cols, cell / cols, EXPLORED_RGB);
+        }
+        paintedCount = target;
+    }
+
+    private void invalidateStaticLayers() {
+        terrainRaster = null;
+        terrainLayer = null;
+        wallLayer = null;
+    }
+
+    // Render ulang layer statis jika viewport berbeda dari saat layer terakhir dibuat
+    private void ensureStaticLayers(int cols, int rows, double scaleFactor, int offsetX, int offsetY, double cellPx) {
+        int width = getWidth(), height = getHeight();
+        if (terrainLayer != null && terrainLayer.getWidth() == width && terrainLayer.getHeight() == height
+                && layerScale == scaleFactor && layerOffsetX == offsetX && layerOffsetY == offsetY) return;
+        terrainLayer = clearedLayer(terrainLayer, width, height);
+        wallLayer = clearedLayer(wallLayer, width, height);
+        layerScale = scaleFactor;
+        layerOffsetX = offsetX;
+        layerOffsetY = offsetY;
+
+        // Culling: sel yang beririsan dengan panel saja
+        int x0 = Math.max(0, (int) Math.floor(-offsetX / cellPx));
+        int y0 = Math.max(0, (int) Math.floor(-offsetY / cellPx));
+        int x1 = Math.min(cols - 1, (int) Math.floor((width - offsetX) / cellPx));
+        int y1 = Math.min(rows - 1, (int) Math.floor((height - offsetY) / cellPx));
+        if (x0 > x1 || y0 > y1) return;
+
+        boolean detailed = cellPx >= DETAIL_LOD_PX;
+        Object antialias = detailed ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF;
+
+        // TERRAIN: zoom out -> raster 1 piksel per sel; zoom in -> detail per sel yang terlihat
+        Graphics2D tg = terrainLayer.createGraphics();
+        tg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialias);
+        tg.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        if (detailed) {
+            tg.translate(offsetX, offsetY);
+            tg.scale(scaleFactor, scaleFactor);
+            for (int y = y0; y <= y1; y++) {
+                for (int x = x0; x <= x1; x++) {
+                    drawTerrain(tg, mazeModel.getTerrain(mazeModel.index(x, y)), x * BASE_CELL_SIZE, y * BASE_CELL_SIZE);
+                }
+            }
+        } else {
+            ensureTerrainRaster();
+            drawCellImage(tg, terrainRaster, x0, y0, x1, y1, offsetX, offsetY, cellPx);
+        }
+        tg.dispose();
+
+        // WALLS: sel terlalu kecil -> dinding tidak terbaca, layer dibiarkan kosong
+        if (cellPx >= WALL_LOD_PX) {
+            Graphics2D wg = wallLayer.createGraphics();
+            wg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialias);
+            drawWalls(wg, x0, y0, x1, y1, offsetX, offsetY, cellPx, scaleFactor);
+            wg.dispose();
+        }
+    }
+
+    // Image ARGB transparan seukuran panel; dipakai ulang selama ukurannya sama (pan/zoom)
+    private static BufferedImage clearedLayer(BufferedImage layer, int width, int height) {
+        if (layer == null || layer.getWidth() != width || layer.getHeight() != height) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        Graphics2D g = layer.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return layer;
+    }
+
+    private void ensureTerrainRaster() {
+        int cols = mazeModel.getCols();
+        int rows = mazeModel.getRows();
+        if (terrainRaster != null && terrainRaster.getWidth() == cols && terrainRaster.getHeight() == rows) return;
+        terrainRaster = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) terrainRaster.getRaster().getDataBuffer()).getData();
+        int[] rgbByCode = new int[TerrainType.values().length];
+        for (TerrainType type : TerrainType.values()) rgbByCode[type.ordinal()] = type.getColor().getRGB();
+        for (int cell = 0; cell < pixels.length; cell++) pixels[cell] = rgbByCode[mazeModel.getTerrainCode(cell)];
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
@@ -76,81 +337,104 @@ public class MazePanel extends JPanel {
         if (mazeModel == null || getWidth() <= 0 || getHeight() <= 0) return;
 
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
-
-        Node[][] grid = mazeModel.getGrid();
         int cols = mazeModel.getCols();
         int rows = mazeModel.getRows();
 
-        // --- SCALING LOGIC ---
-        AffineTransform oldTransform = g2d.getTransform();
+        // --- SCALING LOGIC --- (skala fit x zoom, lalu digeser pan)
         double contentWidth = cols * BASE_CELL_SIZE;
         double contentHeight = rows * BASE_CELL_SIZE;
         double padding = 40;
-        double availableWidth = getWidth() - padding;
-        double availableHeight = getHeight() - padding;
-        double scaleFactor = Math.min(availableWidth / contentWidth, availableHeight / contentHeight);
-        double offsetX = (getWidth() - (contentWidth * scaleFactor)) / 2.0;
-        double offsetY = (getHeight() - (contentHeight * scaleFactor)) / 2.0;
-
-        g2d.translate(offsetX, offsetY);
-        g2d.scale(scaleFactor, scaleFactor);
-
-        // 1. TERRAIN
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                drawTerrain(g2d, grid[x][y].terrain, x * BASE_CELL_SIZE, y * BASE_CELL_SIZE);
-            }
-        }
+        double fitScale = Math.min((getWidth() - padding) / contentWidth, (getHeight() - padding) / contentHeight);
+        if (fitScale <= 0) return;
+        double scaleFactor = fitScale * zoom;
+        double cellPx = BASE_CELL_SIZE * scaleFactor;
+        int offsetX = (int) Math.round((getWidth() - contentWidth * scaleFactor) / 2.0) + panX;
+        int offsetY = (int) Math.round((getHeight() - contentHeight * scaleFactor) / 2.0) + panY;
 
-        // 2. ANIMASI (Kuning Transparan)
-        g2d.setColor(new Color(255, 230, 0, 150));
-        List<Node> currentExplored;
-        synchronized(exploredNodes) { currentExplored = new ArrayList<>(exploredNodes); }
-        for (Node n : currentExplored) {
-            g2d.fillRect(n.x * BASE_CELL_SIZE, n.y * BASE_CELL_SIZE, BASE_CELL_SIZE, BASE_CELL_SIZE);
-        }
+        lastScale = scaleFactor;
+        lastOffsetX = offsetX;
+        lastOffsetY = offsetY;
 
-        // 3. MULTI-PATH RENDERING (KEMBALI KE KOTAK FULL)
-        // Kita tidak menggunakan setStroke lagi karena kita menggambar kotak penuh
+        // Culling: hanya sel yang beririsan dengan clip/viewport yang digambar
+        Rectangle clip = g2d.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        int x0 = Math.max(0, (int) Math.floor((clip.x - offsetX) / cellPx));
+        int y0 = Math.max(0, (int) Math.floor((clip.y - offsetY) / cellPx));
+        int x1 = Math.min(cols - 1, (int) Math.floor((clip.x + clip.width - offsetX) / cellPx));
+        int y1 = Math.min(rows - 1, (int) Math.floor((clip.y + clip.height - offsetY) / cellPx));
+        if (x0 > x1 || y0 > y1) return;
+
+        boolean detailed = cellPx >= DETAIL_LOD_PX;
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, detailed ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+
+        // 1. TERRAIN (blit layer statis; clip dirty-rect membatasi area yang disalin)
+        ensureStaticLayers(cols, rows, scaleFactor, offsetX, offsetY, cellPx);
+        g2d.drawImage(terrainLayer, 0, 0, null);
+
+        // 2. ANIMASI (Kuning Transparan): image 1 piksel per sel, diskalakan nearest-neighbor
+        syncExploredImage();
+        drawCellImage(g2d, exploredImage, x0, y0, x1, y1, offsetX, offsetY, cellPx);
+
+        // 3. MULTI-PATH RENDERING (KOTAK FULL), hanya sel di viewport
         for (PathLayer layer : pathLayers.values()) {
             g2d.setColor(layer.color); // Warna sudah mengandung transparansi dari MazeApp
             for (Node n : layer.nodes) {
-                // KEMBALI KE KOTAK FULL
-                g2d.fillRect(n.x * BASE_CELL_SIZE, n.y * BASE_CELL_SIZE, BASE_CELL_SIZE, BASE_CELL_SIZE);
+                if (n.x < x0 || n.x > x1 || n.y < y0 || n.y > y1) continue;
+                fillCell(g2d, n.x, n.y, offsetX, offsetY, cellPx, 0);
             }
         }
 
-        // 4. WALLS
-        float wallThick = Math.max(1.5f, (float)(3.0 / scaleFactor));
-        g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(wallThick, BasicStroke.CAP_SQUARE, BasicStroke.JOIN_MITER));
-
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                Node current = grid[x][y];
-                int px = x * BASE_CELL_SIZE;
-                int py = y * BASE_CELL_SIZE;
-
-                if (y == 0 || !current.neighbors.contains(grid[x][y - 1]))
-                    g2d.drawLine(px, py, px + BASE_CELL_SIZE, py);
-                if (y == rows - 1 || !current.neighbors.contains(grid[x][y + 1]))
-                    g2d.drawLine(px, py + BASE_CELL_SIZE, px + BASE_CELL_SIZE, py + BASE_CELL_SIZE);
-                if (x == 0 || !current.neighbors.contains(grid[x - 1][y]))
-                    g2d.drawLine(px, py, px, py + BASE_CELL_SIZE);
-                if (x == cols - 1 || !current.neighbors.contains(grid[x + 1][y]))
-                    g2d.drawLine(px + BASE_CELL_SIZE, py, px + BASE_CELL_SIZE, py + BASE_CELL_SIZE);
-            }
-        }
+        // 4. WALLS (blit layer statis, tetap di atas overlay)
+        g2d.drawImage(wallLayer, 0, 0, null);
 
         // 5. START & END MARKERS
+        int inset = (int) Math.round(cellPx * 0.1);
         g2d.setColor(new Color(0, 255, 0));
-        g2d.fillRect(5, 5, BASE_CELL_SIZE - 10, BASE_CELL_SIZE - 10);
+        fillCell(g2d, startCell % cols, startCell / cols, offsetX, offsetY, cellPx, inset);
         g2d.setColor(new Color(139, 0, 0));
-        g2d.fillRect((cols - 1) * BASE_CELL_SIZE + 5, (rows - 1) * BASE_CELL_SIZE + 5, BASE_CELL_SIZE - 10, BASE_CELL_SIZE - 10);
+        fillCell(g2d, goalCell % cols, goalCell / cols, offsetX, offsetY, cellPx, inset);
+    }
+
+    // Posisi layar tepi sel (dibulatkan sama untuk semua layer supaya selaras)
+    private static int screenPos(int offset, int cellIndex, double cellPx) {
+        return offset + (int) Math.round(cellIndex * cellPx);
+    }
 
-        g2d.setTransform(oldTransform);
+    private static void fillCell(Graphics2D g2d, int x, int y, int offsetX, int offsetY, double cellPx, int inset) {
+        int sx = screenPos(offsetX, x, cellPx), sy = screenPos(offsetY, y, cellPx);
+        int w = screenPos(offsetX, x + 1, cellPx) - sx, h = screenPos(offsetY, y + 1, cellPx) - sy;
+        g2d.fillRect(sx + inset, sy + inset, Math.max(1, w - 2 * inset), Math.max(1, h - 2 * inset));
+    }
+
+    // Blit bagian image 1-piksel-per-sel yang terlihat saja
+    private static void drawCellImage(Graphics2D g2d, BufferedImage image, int x0, int y0, int x1, int y1, int offsetX, int offsetY, double cellPx) {
+        g2d.drawImage(image,
+                screenPos(offsetX, x0, cellPx), screenPos(offsetY, y0, cellPx),
+                screenPos(offsetX, x1 + 1, cellPx), screenPos(offsetY, y1 + 1, cellPx),
+                x0, y0, x1 + 1, y1 + 1, null);
+    }
+
+    // Tiap sel menggambar dinding atas & kirinya; sel kolom/baris terakhir juga kanan & bawah
+    private void drawWalls(Graphics2D g2d, int x0, int y0, int x1, int y1, int offsetX, int offsetY, double cellPx, double scaleFactor) {
+        int cols = mazeModel.getCols();
+        int rows = mazeModel.getRows();
+        float wallThick = (float) Math.max(1.0, Math.min(Math.max(3.0, 1.5 * scaleFactor), cellPx / 6.0));
+        g2d.setColor(Color.BLACK);
+        g2d.setStroke(new BasicStroke(wallThick, BasicStroke.CAP_SQUARE, BasicStroke.JOIN_MITER));
+
+        int xEnd = Math.min(cols - 1, x1 + 1), yEnd = Math.min(rows - 1, y1 + 1);
+        for (int y = y0; y <= yEnd; y++) {
+            int top = screenPos(offsetY, y, cellPx), bottom = screenPos(offsetY, y + 1, cellPx);
+            for (int x = x0; x <= xEnd; x++) {
+                int open = mazeModel.getOpenMask(mazeModel.index(x, y));
+                int left = screenPos(offsetX, x, cellPx), right = screenPos(offsetX, x + 1, cellPx);
+                if ((open & MazeGraphModel.NORTH) == 0) g2d.drawLine(left, top, right, top);
+                if ((open & MazeGraphModel.WEST) == 0) g2d.drawLine(left, top, left, bottom);
+                if (y == rows - 1 && (open & MazeGraphModel.SOUTH) == 0) g2d.drawLine(left, bottom, right, bottom);
+                if (x == cols - 1 && (open & MazeGraphModel.EAST) == 0) g2d.drawLine(right, top, right, bottom);
+            }
+        }
     }
 
     private void drawTerrain(Graphics2D g2d, TerrainType type, int x, int y) {
@@ -0,0 +1,408 @@
+// Engine solver headless: tidak bergantung pada MazePanel / Swing.
+// Tanpa observer, solver berjalan penuh tanpa callback maupun delay.
+// State pencarian ada di SearchWorkspace, jadi maze tidak pernah dimutasi solver.
+public final class MazeSolver {
+
+    // Workspace default per thread, dipakai ulang antar-solve (reset = naik epoch)
+    private static final ThreadLocal<SearchWorkspace> WORKSPACES = new ThreadLocal<>();
+
+    private MazeSolver() {}
+
+    public static SearchResult solve(MazeGrid maze, SolverType type, int start, int goal) {
+        return solve(maze, type, start, goal, null);
+    }
+
+    public static SearchResult solve(MazeGrid maze, SolverType type, int start, int goal, SearchObserver observer) {
+        return solve(maze, type, start, goal, observer, threadWorkspace(maze.getCellCount()));
+    }
+
+    // Bisa dibatalkan lewat token; budget hanya dipakai solver anytime (ARA*)
+    public static SearchResult solve(MazeGrid maze, SolverType type, int start, int goal, SearchObserver observer,
+                                     CancellationToken token, long budgetNanos) {
+        return solve(maze, type, start, goal, observer, threadWorkspace(maze.getCellCount()), token, budgetNanos);
+    }
+
+    public static SearchResult solve(MazeGrid maze, SolverType type, int start, int goal, SearchObserver observer, SearchWorkspace ws) {
+        return solve(maze, type, start, goal, observer, ws, null, AraStarSearch.DEFAULT_BUDGET_NANOS);
+    }
+
+    public static SearchResult solve(MazeGrid maze, SolverType type, int start, int goal, SearchObserver observer,
+                                     SearchWorkspace ws, CancellationToken token, long budgetNanos) {
+        // ARA* memeriksa token sendiri (mengembalikan solusi terbaik), solver lain dihentikan via observer
+        if (token != null && type != SolverType.ARA_STAR) observer = token.guard(observer);
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        long allocBefore = SearchStats.threadAllocatedBytes();
+        long startTime = System.nanoTime();
+        SearchResult result = search(maze, type, start, goal, observer, ws, token, budgetNanos);
+        result.computeNano = System.nanoTime() - startTime;
+        long allocAfter = SearchStats.threadAllocatedBytes();
+        event.end();
+
+        // LPA* membawa counter sendiri; solver lain mengisi counter workspace
+        if (result.stats == null) result.stats = ws.stats().copy();
+        if (allocBefore >= 0 && allocAfter >= 0) result.stats.allocatedBytes = allocAfter - allocBefore;
+        if (event.shouldCommit()) {
+            event.solver = type.name();
+            event.cols = maze.getCols();
+            event.rows = maze.getRows();
+            event.found = result.found;
+            event.totalCost = result.totalCost;
+            event.visited = result.visitedCount;
+            event.pushes = result.stats.pushes;
+            event.pops = result.stats.pops;
+            event.staleSkips = result.stats.staleSkips;
+            event.relaxations = result.stats.relaxations;
+            event.peakFrontier = result.stats.peakFrontier;
+            event.allocatedBytes = result.stats.allocatedBytes;
+            event.commit();
+        }
+        return result;
+    }
+
+    private static SearchWorkspace threadWorkspace(int cellCount) {
+        SearchWorkspace ws = WORKSPACES.get();
+        if (ws == null || ws.capacity() < cellCount) {
+            ws = new SearchWorkspace(cellCount);
+            WORKSPACES.set(ws);
+        }
+        return ws;
+    }
+
+    private static SearchResult search(MazeGrid maze, SolverType type, int start, int goal, SearchObserver observer,
+                                       SearchWorkspace ws, CancellationToken token, long budgetNanos) {
+        ws.begin(maze.getCellCount());
+
+        boolean found;
+        switch (type) {
+            case BFS: found = runBFS(maze, ws, start, goal, observer); break;
+            case DFS: found = runDFS(maze, ws, start, goal, observer); break;
+            case DIJKSTRA: found = runDijkstra(maze, ws, start, goal, observer) != -1; break;
+            case ASTAR: found = runAStar(maze, ws, start, goal, observer) != -1; break;
+            case ALT_ASTAR: {
+                Landmarks landmarks = maze.getLandmarks();
+                // Maze terlalu besar untuk distance field: heuristik nol = Dijkstra biasa
+                found = (landmarks != null
+                        ? runAlt(maze, ws, landmarks.toward(goal), start, goal, observer)
+                        : runDijkstra(maze, ws, start, goal, observer)) != -1;
+                break;
+            }
+            case BIDI_DIJKSTRA: return runBidirectional(maze, ws, start, goal, observer, false);
+            case BIDI_ASTAR: return runBidirectional(maze, ws, start, goal, observer, true);
+            case CORRIDOR_DIJKSTRA: {
+                SearchResult reduced = maze.getCorridorGraph().solve(maze, start, goal, ws, observer);
+                if (reduced != null) return reduced;
+                // Maze tanpa sel kunci (satu siklus penuh): kembali ke Dijkstra biasa
+                ws.begin(maze.getCellCount());
+                found = runDijkstra(maze, ws, start, goal, observer) != -1;
+                break;
+            }
+            case HPA_STAR: return maze.getHpaGraph().solve(start, goal, ws, observer);
+            case ARA_STAR: return AraStarSearch.search(maze, ws, start, goal, budgetNanos, token, observer);
+            case LPA_STAR: return new LpaStarPlanner(maze, start, goal).replan(observer); // Run pertama = Dijkstra penuh
+            case TREE_LCA: {
+                MazeTree tree = maze.getTree();
+                if (tree != null) return treeQuery(tree, start, goal, observer);
+                // Maze ber-loop: path tidak unik, kembali ke Dijkstra biasa
+                found = runDijkstra(maze, ws, start, goal, observer) != -1;
+                break;
+            }
+            default: throw new IllegalArgumentException("Unsupported solver: " + type);
+        }
+
+        int visitedCount = ws.getVisitedCount();
+        if (!found) return new SearchResult(false, new int[0], Integer.MAX_VALUE, visitedCount);
+
+        // Rekonstruksi path dari goal ke start lewat parent
+        int steps = 0;
+        for (int c = goal; c != -1; c = ws.getParent(c)) steps++;
+        int[] path = new int[steps];
+        int i = steps - 1;
+        for (int c = goal; c != -1; c = ws.getParent(c)) path[i--] = c;
+        return pathResult(maze, path, visitedCount);
+    }
+
+    // Cost path = jumlah cost terrain semua sel di path (termasuk start)
+    private static SearchResult pathResult(MazeGrid maze, int[] path, int visitedCount) {
+        int cost = 0;
+        for (int cell : path) cost += maze.getCost(cell);
+        return new SearchResult(true, path, cost, visitedCount);
+    }
+
+    // --- TREE QUERY --- (perfect maze: path unik langsung dari LCA, tanpa search)
+    private static SearchResult treeQuery(MazeTree tree, int start, int goal, SearchObserver observer) {
+        int[] path = tree.path(start, goal);
+        if (observer != null) for (int cell : path) observer.onExpand(cell);
+        return new SearchResult(true, path, tree.pathCost(start, goal), path.length);
+    }
+
+    // --- BFS --- (queue di buffer workspace: tiap sel masuk sekali)
+    private static boolean runBFS(MazeGrid m, SearchWorkspace ws, int start, int end, SearchObserver observer) {
+        SearchStats stats = ws.stats();
+        int[] queue = ws.frontierBuffer();
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        ws.markVisited(start);
+        stats.pushes++;
+        while (head < tail) {
+            stats.frontierSize(tail - head);
+            int current = queue[head++];
+            stats.pops++;
+            if (observer != null) observer.onExpand(current);
+            if (current == end) return true;
+            for (int d = 0; d < 4; d++) {
+                if (!m.isOpen(current, MazeGraphModel.DIR_BITS[d])) continue;
+                int neighbor = m.neighbor(current, d);
+                if (!ws.isVisited(neighbor)) {
+                    ws.markVisited(neighbor);
+                    ws.setParent(neighbor, current);
+                    queue[tail++] = neighbor;
+                    stats.pushes++;
+                    stats.relaxations++;
+                } else {
+                    stats.staleSkips++;
+                }
+            }
+        }
+        return false;
+    }
+
+    // --- DFS --- (stack di buffer workspace: tiap sel di-push sekali)
+    private static boolean runDFS(MazeGrid m, SearchWorkspace ws, int start, int end, SearchObserver observer) {
+        SearchStats stats = ws.stats();
+        int[] stack = ws.frontierBuffer();
+        int top = 0;
+        stack[top++] = start;
+        ws.markVisited(start);
+        stats.pushes++;
+        while (top > 0) {
+            stats.frontierSize(top);
+            int current = stack[--top];
+            stats.pops++;
+            if (observer != null) observer.onExpand(current);
+            if (current == end) return true;
+            for (int d = 0; d < 4; d++) {
+                if (!m.isOpen(current, MazeGraphModel.DIR_BITS[d])) continue;
+                int neighbor = m.neighbor(current, d);
+                if (!ws.isVisited(neighbor)) {
+                    ws.markVisited(neighbor);
+                    ws.setParent(neighbor, current);
+                    stack[top++] = neighbor;
+                    stats.pushes++;
+                    stats.relaxations++;
+                } else {
+                    stats.staleSkips++;
+                }
+            }
+        }
+        return false;
+    }
+
+    // --- DIJKSTRA --- (Dial's algorithm: bucket queue atas cost terrain 0/1/5/10,
+    // relaksasi tanpa alokasi; return cost, -1 jika tidak ketemu)
+    private static int runDijkstra(MazeGrid m, SearchWorkspace ws, int start, int end, SearchObserver observer) {
+        SearchStats stats = ws.stats();
+        BucketQueue queue = ws.bucketQueue();
+        ws.setDist(start, 0);
+        queue.add(start, 0);
+        stats.pushes++;
+        while (!queue.isEmpty()) {
+            stats.frontierSize(queue.size());
+            int u = queue.poll();
+            int cost = queue.currentKey();
+            stats.pops++;
+            ws.markVisited(u);
+            if (observer != null) observer.onExpand(u);
+            if (u == end) return cost;
+            for (int d = 0; d < 4; d++) {
+                if (!m.isOpen(u, MazeGraphModel.DIR_BITS[d])) continue;
+                int v = m.neighbor(u, d);
+                if (ws.isVisited(v)) {
+                    stats.staleSkips++;
+                    continue;
+                }
+                int newDist = cost + m.getCost(v);
+                int oldDist = ws.getDist(v);
+                if (newDist < oldDist) {
+                    ws.setDist(v, newDist);
+                    ws.setParent(v, u);
+                    if (oldDist == Integer.MAX_VALUE) queue.add(v, newDist);
+                    else queue.decreaseKey(v, oldDist, newDist);
+                    stats.pushes++;
+                    stats.relaxations++;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // --- A* --- (heuristik Manhattan di atas heap terindeks dengan decrease-key;
+    // prioritas fCost lalu hCost. Return cost, -1 jika tidak ketemu)
+    private static int runAStar(MazeGrid m, SearchWorkspace ws, int start, int end, SearchObserver observer) {
+        IndexedMinHeap open = ws.indexedHeap();
+        int ex = m.xOf(end), ey = m.yOf(end);
+        int startH = Math.abs(m.xOf(start) - ex) + Math.abs(m.yOf(start) - ey);
+        SearchStats stats = ws.stats();
+        ws.setDist(start, 0);
+        open.push(start, startH, startH);
+        stats.pushes++;
+        while (!open.isEmpty()) {
+            stats.frontierSize(open.size());
+            int u = open.poll();
+            int g = ws.getDist(u);
+            stats.pops++;
+            if (ws.isVisited(u)) stats.staleSkips++; // Dibuka ulang: ekspansi kedua sel yang sama
+            ws.markVisited(u);
+            if (observer != null) observer.onExpand(u);
+            if (u == end) return g;
+            for (int d = 0; d < 4; d++) {
+                if (!m.isOpen(u, MazeGraphModel.DIR_BITS[d])) continue;
+                int v = m.neighbor(u, d);
+                int newG = g + m.getCost(v);
+                if (newG < ws.getDist(v)) {
+                    // Heuristik tidak konsisten (TERRACE cost 0), jadi sel tertutup boleh dibuka lagi
+                    int h = Math.abs(m.xOf(v) - ex) + Math.abs(m.yOf(v) - ey);
+                    ws.setDist(v, newG);
+                    ws.setParent(v, u);
+                    open.push(v, newG + h, h);
+                    stats.pushes++;
+                    stats.relaxations++;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // --- A* (ALT) --- (heuristik landmark konsisten: sel yang sudah di-settle tidak
+    // pernah membaik lagi, jadi cukup dilewati seperti Dijkstra. Return cost, -1 jika tidak ketemu)
+    private static int runAlt(MazeGrid m, SearchWorkspace ws, Landmarks.Target h, int start, int end, SearchObserver observer) {
+        SearchStats stats = ws.stats();
+        IndexedMinHeap open = ws.indexedHeap();
+        int startH = h.estimate(start);
+        ws.setDist(start, 0);
+        open.push(start, startH, startH);
+        stats.pushes++;
+        while (!open.isEmpty()) {
+            stats.frontierSize(open.size());
+            int u = open.poll();
+            int g = ws.getDist(u);
+            stats.pops++;
+            ws.markVisited(u);
+            if (observer != null) observer.onExpand(u);
+            if (u == end) return g;
+            for (int d = 0; d < 4; d++) {
+                if (!m.isOpen(u, MazeGraphModel.DIR_BITS[d])) continue;
+                int v = m.neighbor(u, d);
+                if (ws.isVisited(v)) {
+                    stats.staleSkips++;
+                    continue;
+                }
+                int newG = g + m.getCost(v);
+                if (newG < ws.getDist(v)) {
+                    int hv = h.estimate(v);
+                    ws.setDist(v, newG);
+                    ws.setParent(v, u);
+                    open.push(v, newG + hv, hv);
+                    stats.pushes++;
+                    stats.relaxations++;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // --- BIDIRECTIONAL DIJKSTRA / A* ---
+    // Maju dari start (edge u->v ber-cost cost(v)) dan mundur dari goal (edge v<-u juga
+    // ber-cost cost(v), jadi relaksasi mundur dari u menambah cost(u)). mu = cost terbaik
+    // yang sudah menyambung kedua arah. Berhenti saat topF + topB >= mu.
+    // Versi A* memakai potensial rata-rata pF = (hF - hB) / 2, pB = -pF (key dikali 2
+    // agar tetap integer); dengan potensial ini aturan berhenti yang sama tetap berlaku.
+    // Catatan: seperti A* biasa, Manhattan tidak admissible saat TERRACE ber-cost 0,
+    // jadi optimalitas versi A* hanya terjamin untuk heuristik yang konsisten.
+    private static SearchResult runBidirectional(MazeGrid m, SearchWorkspace fwd, int start, int goal,
+                                                 SearchObserver observer, boolean useHeuristic) {
+        SearchWorkspace bwd = fwd.reverse();
+        if (start == goal) {
+            fwd.markVisited(start);
+            if (observer != null) observer.onExpand(start);
+            return pathResult(m, new int[]{start}, 1);
+        }
+
+        IndexedMinHeap openF = fwd.indexedHeap();
+        IndexedMinHeap openB = bwd.indexedHeap();
+        int sx = m.xOf(start), sy = m.yOf(start), gx = m.xOf(goal), gy = m.yOf(goal);
+
+        SearchStats stats = fwd.stats(); // Kedua arah dihitung di counter workspace maju
+        fwd.setDist(start, 0);
+        bwd.setDist(goal, 0);
+        openF.push(start, potential(m, start, gx, gy, sx, sy, useHeuristic), 0);
+        openB.push(goal, -potential(m, goal, gx, gy, sx, sy, useHeuristic), 0);
+        stats.pushes += 2;
+
+        int mu = Integer.MAX_VALUE; // Dalam satuan cost asli
+        int meet = -1;
+        int overlap = 0;            // Sel yang di-settle kedua arah (dihitung sekali)
+
+        while (!openF.isEmpty() && !openB.isEmpty()) {
+            if (mu != Integer.MAX_VALUE && (long) openF.peekPrimaryKey() + openB.peekPrimaryKey() >= 2L * mu) break;
+
+            boolean forward = openF.peekPrimaryKey() <= openB.peekPrimaryKey();
+            SearchWorkspace self = forward ? fwd : bwd;
+            SearchWorkspace other = forward ? bwd : fwd;
+            IndexedMinHeap open = forward ? openF : openB;
+            int sign = forward ? 1 : -1;
+
+            stats.frontierSize(openF.size() + openB.size());
+            int u = open.poll();
+            int du = self.getDist(u);
+            stats.pops++;
+            if (!self.isVisited(u)) {
+                self.markVisited(u);
+                if (other.isVisited(u)) overlap++;
+            } else {
+                stats.staleSkips++;
+            }
+            if (observer != null) observer.onExpand(u);
+
+            for (int d = 0; d < 4; d++) {
+                if (!m.isOpen(u, MazeGraphModel.DIR_BITS[d])) continue;
+                int v = m.neighbor(u, d);
+                int nd = du + (forward ? m.getCost(v) : m.getCost(u));
+                if (nd < self.getDist(v)) {
+                    self.setDist(v, nd);
+                    self.setParent(v, u);
+                    open.push(v, 2 * nd + sign * potential(m, v, gx, gy, sx, sy, useHeuristic), 0);
+                    stats.pushes++;
+                    stats.relaxations++;
+                }
+                int dOther = other.getDist(v);
+                if (dOther != Integer.MAX_VALUE && self.getDist(v) + dOther < mu) {
+                    mu = self.getDist(v) + dOther;
+                    meet = v;
+                }
+            }
+        }
+
+        int visitedCount = fwd.getVisitedCount() + bwd.getVisitedCount() - overlap;
+        if (meet == -1) return new SearchResult(false, new int[0], Integer.MAX_VALUE, visitedCount);
+
+        // Sambung path: start..meet (parent maju) + meet..goal (parent mundur)
+        int headLen = 0;
+        for (int c = meet; c != -1; c = fwd.getParent(c)) headLen++;
+        int tailLen = 0;
+        for (int c = bwd.getParent(meet); c != -1; c = bwd.getParent(c)) tailLen++;
+        int[] path = new int[headLen + tailLen];
+        int i = headLen - 1;
+        for (int c = meet; c != -1; c = fwd.getParent(c)) path[i--] = c;
+        i = headLen;
+        for (int c = bwd.getParent(meet); c != -1; c = bwd.getParent(c)) path[i++] = c;
+        return pathResult(m, path, visitedCount);
+    }
+
+    // 2 * pF(v) = hF(v) - hB(v), heuristik Manhattan ke goal dan ke start
+    private static int potential(MazeGrid m, int cell, int gx, int gy, int sx, int sy, boolean useHeuristic) {
+        if (!useHeuristic) return 0;
+        int x = m.xOf(cell), y = m.yOf(cell);
+        return (Math.abs(x - gx) + Math.abs(y - gy)) - (Math.abs(x - sx) + Math.abs(y - sy));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+// Preprocessing untuk perfect maze (spanning tree, tanpa loop): setiap pasangan sel
+// punya tepat satu path. Tree di-root di sel 0 dengan depth, cost kumulatif dan
+// jump pointer (skew-binary) sehingga LCA, cost dan panjang path antar dua sel
+// didapat dalam O(log n) dengan memori O(n); ekstraksi path O(panjang path).
+public class MazeTree {
+    private final int[] parent;
+    private final int[] jump;
+    private final int[] depth;
+    private final int[] costSum; // Cost semua sel dari root s/d sel ini (inklusif)
+    private final int[] cellCost;
+
+    private MazeTree(int cellCount) {
+        parent = new int[cellCount];
+        jump = new int[cellCount];
+        depth = new int[cellCount];
+        costSum = new int[cellCount];
+        cellCost = new int[cellCount];
+    }
+
+    // Return null jika maze bukan tree (ada loop atau tidak terhubung)
+    public static MazeTree build(MazeGrid m) {
+        int n = m.getCellCount();
+        long openEdges = 0;
+        for (int cell = 0; cell < n; cell++) openEdges += Integer.bitCount(m.getOpenMask(cell));
+        if (openEdges / 2 != n - 1) return null;
+
+        MazeTree tree = new MazeTree(n);
+        boolean[] seen = new boolean[n];
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        queue[tail++] = 0;
+        seen[0] = true;
+        tree.cellCost[0] = m.getCost(0);
+        tree.costSum[0] = tree.cellCost[0];
+
+        // BFS: parent selalu diproses sebelum anak, jadi jump parent sudah tersedia
+        while (head < tail) {
+            int u = queue[head++];
+            for (int d = 0; d < 4; d++) {
+                if (!m.isOpen(u, MazeGraphModel.DIR_BITS[d])) continue;
+                int v = m.neighbor(u, d);
+                if (seen[v]) continue;
+                seen[v] = true;
+                tree.parent[v] = u;
+                tree.depth[v] = tree.depth[u] + 1;
+                tree.cellCost[v] = m.getCost(v);
+                tree.costSum[v] = tree.costSum[u] + tree.cellCost[v];
+                int ju = tree.jump[u];
+                tree.jump[v] = (tree.depth[u] - tree.depth[ju] == tree.depth[ju] - tree.depth[tree.jump[ju]]) ? tree.jump[ju] : u;
+                queue[tail++] = v;
+            }
+        }
+        return tail == n ? tree : null;
+    }
+
+    public int depth(int cell) { return depth[cell]; }
+
+    // Leluhur sel pada kedalaman targetDepth, O(log n)
+    private int ancestorAtDepth(int v, int targetDepth) {
+        while (depth[v] > targetDepth) {
+            v = depth[jump[v]] >= targetDepth ? jump[v] : parent[v];
+        }
+        return v;
+    }
+
+    public int lca(int a, int b) {
+        if (depth[a] > depth[b]) a = ancestorAtDepth(a, depth[b]);
+        else if (depth[b] > depth[a]) b = ancestorAtDepth(b, depth[a]);
+        // Kedalaman sama -> pola jump identik, kedua sel bisa lompat bersamaan
+        while (a != b) {
+            if (jump[a] != jump[b]) {
+                a = jump[a];
+                b = jump[b];
+            } else {
+                a = parent[a];
+                b = parent[b];
+            }
+        }
+        return a;
+    }
+
+    // Jumlah cost terrain semua sel di path a..b (inklusif), O(log n)
+    public int pathCost(int a, int b) {
+        int l = lca(a, b);
+        return costSum[a] + costSum[b] - 2 * costSum[l] + cellCost[l];
+    }
+
+    // Jumlah sel di path a..b (inklusif), O(log n)
+    public int pathLength(int a, int b) {
+        int l = lca(a, b);
+        return depth[a] + depth[b] - 2 * depth[l] + 1;
+    }
+
+    // Path sel a..b, O(log n + panjang path)
+    public int[] path(int a, int b) {
+        int l = lca(a, b);
+        int up = depth[a] - depth[l];
+        int[] cells = new int[up + depth[b] - depth[l] + 1];
+        int i = 0;
+        for (int c = a; c != l; c = parent[c]) cells[i++] = c;
+        cells[i] = l;
+        int j = cells.length - 1;
+        for (int c = b; c != l; c = parent[c]) cells[j--] = c;
+        return cells;
+    }
+}
\ No newline at end of file
@@ -1,20 +1,12 @@
-import java.util.ArrayList;
-import java.util.List;
-
+// View ringan satu sel untuk UI; state grid & pencarian ada di MazeGraphModel
 public class Node {
     int x, y;
-    boolean visited;
-    Node parent;
-    List<Node> neighbors;
     TerrainType terrain;
 
-    public Node(int x, int y) {
+    public Node(int x, int y, TerrainType terrain) {
         this.x = x;
         this.y = y;
-        this.visited = false;
-        this.parent = null;
-        this.neighbors = new ArrayList<>();
-        this.terrain = TerrainType.TERRACE;
+        this.terrain = terrain;
     }
 
     public int getCost() {
@@ -0,0 +1,100 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// Cache LRU terbatas untuk hasil query (start, goal, algoritma) pada satu versi maze.
+// Versi ikut di key: maze baru / terrain berubah -> versi baru, entry lama tidak
+// pernah cocok lagi dan tersingkir sendiri oleh LRU.
+public class PathCache {
+    private final Map<Key, SearchResult> entries;
+    private long hits;
+    private long misses;
+
+    private static final class Key {
+        final long version;
+        final SolverType type;
+        final int start;
+        final int goal;
+
+        Key(long version, SolverType type, int start, int goal) {
+            this.version = version;
+            this.type = type;
+            this.start = start;
+            this.goal = goal;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return version == k.version && type == k.type && start == k.start && goal == k.goal;
+        }
+
+        @Override
+        public int hashCode() { return Objects.hash(version, type, start, goal); }
+    }
+
+    public PathCache(int capacity) {
+        // accessOrder = true: get() memindahkan entry ke ujung, eldest = paling lama tidak dipakai
+        this.entries = new LinkedHashMap<Key, SearchResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SearchResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    // LPA* menyimpan state untuk edit berikutnya dan hasil ARA* bergantung pada budget waktu:
+    // keduanya selalu dijalankan ulang, tidak pernah disimpan
+    public static boolean isCacheable(SolverType type) {
+        return type != SolverType.LPA_STAR && type != SolverType.ARA_STAR;
+    }
+
+    // Query lengkap: ambil dari cache, atau solve lalu simpan
+    public SearchResult solve(MazeGrid maze, SolverType type, int start, int goal) {
+        return solve(maze, type, start, goal, null, null, AraStarSearch.DEFAULT_BUDGET_NANOS);
+    }
+
+    // Observer hanya melihat ekspansi saat benar-benar solve (cache hit tidak punya trace)
+    public SearchResult solve(MazeGrid maze, SolverType type, int start, int goal, SearchObserver observer,
+                              CancellationToken token, long budgetNanos) {
+        if (!isCacheable(type)) return MazeSolver.solve(maze, type, start, goal, observer, token, budgetNanos);
+        long version = maze.getVersion(); // Diambil sebelum solve: hasil basi tidak akan cocok lagi
+        SearchResult cached = get(version, type, start, goal);
+        if (cached != null) return cached;
+        SearchResult result = MazeSolver.solve(maze, type, start, goal, observer, token, budgetNanos);
+        put(version, type, start, goal, result);
+        return result;
+    }
+
+    // Null jika belum ada; hit dikembalikan sebagai salinan dengan waktu lookup sendiri
+    public SearchResult get(long version, SolverType type, int start, int goal) {
+        long startTime = System.nanoTime();
+        SearchResult stored;
+        synchronized (this) {
+            stored = entries.get(new Key(version, type, start, goal));
+            if (stored == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+        }
+        SearchResult hit = new SearchResult(stored.found, stored.path, stored.totalCost, stored.visitedCount);
+        hit.fromCache = true;
+        hit.stats = stored.stats;
+        hit.suboptimalityBound = stored.suboptimalityBound;
+        hit.budgetExhausted = stored.budgetExhausted;
+        hit.computeNano = System.nanoTime() - startTime;
+        return hit;
+    }
+
+    public synchronized void put(long version, SolverType type, int start, int goal, SearchResult result) {
+        entries.put(new Key(version, type, start, goal), result);
+    }
+
+    public synchronized void clear() { entries.clear(); }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+import java.io.IOException;
+
+// Penerima hasil generator streaming, dipanggil sekali per baris dari atas ke bawah.
+// Array dipakai ulang oleh generator: salin isinya jika perlu disimpan.
+public interface RowSink {
+    void acceptRow(int y, byte[] openMasks, byte[] terrain) throws IOException;
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Event JFR per pencarian: durasi event = waktu solve, plus counter SearchStats.
+// Aktif hanya saat recording berjalan (mis. -XX:StartFlightRecording), nyaris gratis jika tidak.
+@Name("maze.Search")
+@Label("Maze Search")
+@Category("Maze")
+@Description("Satu pemanggilan MazeSolver.solve")
+public class SearchEvent extends jdk.jfr.Event {
+    @Label("Solver") String solver;
+    @Label("Columns") int cols;
+    @Label("Rows") int rows;
+    @Label("Found") boolean found;
+    @Label("Total Cost") int totalCost;
+    @Label("Visited") int visited;
+    @Label("Pushes") long pushes;
+    @Label("Pops") long pops;
+    @Label("Stale Skips") long staleSkips;
+    @Label("Relaxations") long relaxations;
+    @Label("Peak Frontier") int peakFrontier;
+    @Label("Allocated") @DataAmount long allocatedBytes;
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+// Callback opsional untuk solver headless (mis. animasi di MazePanel)
+public interface SearchObserver {
+    // Dipanggil setiap kali solver mengekspansi sebuah sel
+    void onExpand(int cell);
+}
\ No newline at end of file
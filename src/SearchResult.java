@@ -0,0 +1,29 @@
+// Hasil solver headless (tanpa ketergantungan ke Swing)
+public class SearchResult {
+    final boolean found;
+    final int[] path; // Indeks sel dari start ke goal (kosong jika gagal)
+    final int totalCost;
+    final int visitedCount;
+    long computeNano; // Waktu murni algoritma (tanpa animasi), atau waktu lookup jika dari cache
+    boolean fromCache;
+    SearchStats stats; // Counter instrumentasi (push/pop/relaksasi/alokasi), diisi MazeSolver.solve
+    double suboptimalityBound = Double.NaN; // cost <= bound * optimal; NaN = solver tidak melaporkan
+    boolean budgetExhausted; // Solver anytime berhenti karena budget waktu (not-found bukan berarti tanpa path)
+
+    public SearchResult(boolean found, int[] path, int totalCost, int visitedCount) {
+        this.found = found;
+        this.path = path;
+        this.totalCost = totalCost;
+        this.visitedCount = visitedCount;
+    }
+
+    public boolean isFound() { return found; }
+    public int[] getPath() { return path; }
+    public int getTotalCost() { return totalCost; }
+    public int getVisitedCount() { return visitedCount; }
+    public long getComputeNano() { return computeNano; }
+    public boolean isFromCache() { return fromCache; }
+    public SearchStats getStats() { return stats; }
+    public double getSuboptimalityBound() { return suboptimalityBound; }
+    public boolean isBudgetExhausted() { return budgetExhausted; }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+import java.lang.management.ManagementFactory;
+
+// Counter instrumentasi satu pencarian, diisi solver sambil berjalan (lewat workspace).
+// pushes: sisip baru + perbaikan key di frontier; pops: sel yang diambil dari frontier;
+// staleSkips: entry/edge yang dibuang karena basi (sel sudah di-settle atau sudah diproses);
+// relaxations: relaksasi edge yang memperbaiki jarak; peakFrontier: ukuran frontier maksimum.
+public class SearchStats {
+    private static final java.lang.management.ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    long pushes;
+    long pops;
+    long staleSkips;
+    long relaxations;
+    int peakFrontier;
+    long allocatedBytes = -1; // -1 jika JVM tidak mendukung counter alokasi per thread
+
+    void reset() {
+        pushes = 0;
+        pops = 0;
+        staleSkips = 0;
+        relaxations = 0;
+        peakFrontier = 0;
+        allocatedBytes = -1;
+    }
+
+    void frontierSize(int size) {
+        if (size > peakFrontier) peakFrontier = size;
+    }
+
+    SearchStats copy() {
+        SearchStats c = new SearchStats();
+        c.pushes = pushes;
+        c.pops = pops;
+        c.staleSkips = staleSkips;
+        c.relaxations = relaxations;
+        c.peakFrontier = peakFrontier;
+        c.allocatedBytes = allocatedBytes;
+        return c;
+    }
+
+    public long getPushes() { return pushes; }
+    public long getPops() { return pops; }
+    public long getStaleSkips() { return staleSkips; }
+    public long getRelaxations() { return relaxations; }
+    public int getPeakFrontier() { return peakFrontier; }
+    public long getAllocatedBytes() { return allocatedBytes; }
+
+    // Byte yang sudah dialokasikan thread ini (HotSpot), -1 jika tidak tersedia
+    static long threadAllocatedBytes() {
+        if (THREAD_BEAN instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREAD_BEAN).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("push %d, pop %d, stale %d, relax %d, peak frontier %d, alloc %s",
+                pushes, pops, staleSkips, relaxations, peakFrontier,
+                allocatedBytes < 0 ? "n/a" : String.format("%.1f KB", allocatedBytes / 1024.0));
+    }
+}
\ No newline at end of file
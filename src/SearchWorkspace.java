@@ -0,0 +1,111 @@
+import java.util.Arrays;
+
+// State per pencarian (visited, parent, jarak) di luar MazeGraphModel.
+// Reset cukup dengan menaikkan epoch, jadi tidak perlu sweep O(cells) per solve,
+// dan beberapa pencarian bisa berjalan bersamaan di atas maze yang sama
+// selama masing-masing memakai workspace sendiri.
+public class SearchWorkspace {
+    private int[] touchedEpoch; // parent/dist valid jika == epoch
+    private int[] visitedEpoch; // sel sudah dikunjungi/di-settle jika == epoch
+    private int[] parent;
+    private int[] dist;
+    private int[] frontier;     // Buffer queue/stack BFS & DFS (tiap sel masuk sekali)
+    private BucketQueue buckets; // Antrian Dial untuk Dijkstra (dibuat saat pertama dipakai)
+    private IndexedMinHeap heap; // Heap terindeks untuk A* (dibuat saat pertama dipakai)
+    private SearchWorkspace reverse; // Workspace arah mundur untuk solver bidirectional
+    private final SearchStats stats = new SearchStats(); // Counter instrumentasi pencarian aktif
+    private int epoch;
+    private int visitedCount;
+
+    public SearchWorkspace(int cellCount) {
+        allocate(cellCount);
+    }
+
+    private void allocate(int cellCount) {
+        touchedEpoch = new int[cellCount];
+        visitedEpoch = new int[cellCount];
+        parent = new int[cellCount];
+        dist = new int[cellCount];
+        frontier = new int[cellCount];
+        buckets = null;
+        heap = null;
+        reverse = null;
+        epoch = 0;
+    }
+
+    public int capacity() { return parent.length; }
+
+    // Mulai pencarian baru: O(1), kecuali saat kapasitas kurang atau epoch overflow
+    public void begin(int cellCount) {
+        if (cellCount > capacity()) allocate(cellCount);
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(touchedEpoch, 0);
+            Arrays.fill(visitedEpoch, 0);
+            epoch = 0;
+        }
+        epoch++;
+        visitedCount = 0;
+        stats.reset();
+    }
+
+    private void touch(int cell) {
+        if (touchedEpoch[cell] != epoch) {
+            touchedEpoch[cell] = epoch;
+            parent[cell] = -1;
+            dist[cell] = Integer.MAX_VALUE;
+        }
+    }
+
+    public boolean isVisited(int cell) { return visitedEpoch[cell] == epoch; }
+
+    public void markVisited(int cell) {
+        if (visitedEpoch[cell] != epoch) {
+            visitedEpoch[cell] = epoch;
+            visitedCount++;
+        }
+    }
+
+    public int getVisitedCount() { return visitedCount; }
+
+    public int getParent(int cell) { return touchedEpoch[cell] == epoch ? parent[cell] : -1; }
+
+    public void setParent(int cell, int p) {
+        touch(cell);
+        parent[cell] = p;
+    }
+
+    public int getDist(int cell) { return touchedEpoch[cell] == epoch ? dist[cell] : Integer.MAX_VALUE; }
+
+    public void setDist(int cell, int d) {
+        touch(cell);
+        dist[cell] = d;
+    }
+
+    int[] frontierBuffer() { return frontier; }
+
+    SearchStats stats() { return stats; }
+
+    BucketQueue bucketQueue() {
+        return bucketQueue(TerrainType.maxCost());
+    }
+
+    // Antrian Dial untuk graph dengan cost edge sampai maxEdgeCost (mis. graph koridor)
+    BucketQueue bucketQueue(int maxEdgeCost) {
+        if (buckets == null) buckets = new BucketQueue(capacity(), maxEdgeCost);
+        buckets.reset(maxEdgeCost);
+        return buckets;
+    }
+
+    // Workspace kedua (arah goal -> start), di-begin bersama workspace ini
+    SearchWorkspace reverse() {
+        if (reverse == null) reverse = new SearchWorkspace(capacity());
+        reverse.begin(capacity());
+        return reverse;
+    }
+
+    IndexedMinHeap indexedHeap() {
+        if (heap == null) heap = new IndexedMinHeap(capacity());
+        heap.clear();
+        return heap;
+    }
+}
\ No newline at end of file
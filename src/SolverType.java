@@ -0,0 +1,34 @@
+import java.awt.Color;
+
+public enum SolverType {
+    BFS("BFS", new Color(0, 191, 255, 170)),
+    DFS("DFS", new Color(255, 20, 147, 170)),
+    DIJKSTRA("Dijkstra", new Color(255, 140, 0, 170)),
+    ASTAR("A* (A-Star)", new Color(220, 20, 60, 170)),
+    ALT_ASTAR("A* (ALT Landmarks)", new Color(255, 99, 71, 170)),
+    BIDI_DIJKSTRA("Bidirectional Dijkstra", new Color(148, 0, 211, 170)),
+    BIDI_ASTAR("Bidirectional A*", new Color(0, 128, 128, 170)),
+    CORRIDOR_DIJKSTRA("Corridor Dijkstra", new Color(70, 130, 180, 170)),
+    HPA_STAR("HPA* (Hierarchical)", new Color(184, 134, 11, 170)),
+    TREE_LCA("Tree Query (LCA)", new Color(0, 100, 0, 170)),
+    LPA_STAR("LPA* (Incremental)", new Color(199, 21, 133, 170)),
+    ARA_STAR("ARA* (Anytime)", new Color(218, 112, 214, 170));
+
+    private final String displayName;
+    private final Color pathColor;
+
+    SolverType(String displayName, Color pathColor) {
+        this.displayName = displayName;
+        this.pathColor = pathColor;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public Color getPathColor() { return pathColor; }
+
+    public static SolverType fromDisplayName(String name) {
+        for (SolverType type : values()) {
+            if (type.displayName.equals(name)) return type;
+        }
+        throw new IllegalArgumentException("Unknown solver: " + name);
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 import java.awt.Color;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
 public enum TerrainType {
@@ -25,6 +26,23 @@ public enum TerrainType {
     private static final List<TerrainType> VALUES = List.of(values());
     private static final List<TerrainType> OBSTACLES = List.of(GRASS, MUD, WATER);
 
+    // Lookup kode (ordinal) -> terrain/cost untuk grid padat MazeGraphModel
+    private static final TerrainType[] BY_CODE = values();
+    private static final int[] COST_BY_CODE = new int[BY_CODE.length];
+    private static final int MAX_COST;
+    static {
+        int max = 0;
+        for (TerrainType t : BY_CODE) {
+            COST_BY_CODE[t.ordinal()] = t.cost;
+            max = Math.max(max, t.cost);
+        }
+        MAX_COST = max;
+    }
+
+    public static TerrainType fromCode(int code) { return BY_CODE[code]; }
+    public static int costOf(int code) { return COST_BY_CODE[code]; }
+    public static int maxCost() { return MAX_COST; }
+
     public static TerrainType getRandomTerrain() {
         return VALUES.get(ThreadLocalRandom.current().nextInt(VALUES.size()));
     }
@@ -33,4 +51,9 @@ public enum TerrainType {
     public static TerrainType getRandomObstacle() {
         return OBSTACLES.get(ThreadLocalRandom.current().nextInt(OBSTACLES.size()));
     }
+
+    // Versi seeded: memakai Random milik model agar map bisa direproduksi
+    public static TerrainType getRandomObstacle(Random random) {
+        return OBSTACLES.get(random.nextInt(OBSTACLES.size()));
+    }
 }
\ No newline at end of file